@@ -0,0 +1,315 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.core;
+
+/**
+ * Captures the arguments with which the parameters of a statement are set, without
+ * allocating.  Each argument is held in a slot of a ring buffer as a type tag and a
+ * primitive value or a reference, and the arguments are only formatted when they are
+ * written to the logs.  When more arguments are set than the buffer can hold, such as
+ * when many rows are added to a batch, the oldest arguments are overwritten.
+ * @author Melior
+ * @since 2.3
+ */
+class ArgumentBuffer {
+
+    private static final int CAPACITY = 64;
+
+    private static final byte LONG = 0;
+
+    private static final byte DOUBLE = 1;
+
+    private static final byte BOOLEAN = 2;
+
+    private static final byte OBJECT = 3;
+
+    private String[] methodNames;
+
+    private int[] indexes;
+
+    private String[] names;
+
+    private byte[] tags;
+
+    private long[] values;
+
+    private Object[] references;
+
+    private int count;
+
+    /**
+     * Constructor.
+     */
+    ArgumentBuffer() {
+
+        super();
+
+        methodNames = new String[CAPACITY];
+
+        indexes = new int[CAPACITY];
+
+        names = new String[CAPACITY];
+
+        tags = new byte[CAPACITY];
+
+        values = new long[CAPACITY];
+
+        references = new Object[CAPACITY];
+
+        count = 0;
+    }
+
+    /**
+     * Indicate whether buffer is empty.
+     * @return true if no arguments have been captured, false otherwise
+     */
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Clear buffer.  References to the arguments are released.
+     */
+    void clear() {
+
+        for (int i = Math.min(count, CAPACITY) - 1; i >= 0; i--) {
+            references[i] = null;
+        }
+
+        count = 0;
+    }
+
+    /**
+     * Capture argument of parameter.
+     * @param methodName The name of the setter
+     * @param index The parameter index
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final int index,
+        final long value) {
+        add(methodName, index, null, LONG, value, null);
+    }
+
+    /**
+     * Capture argument of parameter.
+     * @param methodName The name of the setter
+     * @param index The parameter index
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final int index,
+        final double value) {
+        add(methodName, index, null, DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    /**
+     * Capture argument of parameter.
+     * @param methodName The name of the setter
+     * @param index The parameter index
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final int index,
+        final boolean value) {
+        add(methodName, index, null, BOOLEAN, (value == true) ? 1 : 0, null);
+    }
+
+    /**
+     * Capture argument of parameter.
+     * @param methodName The name of the setter
+     * @param index The parameter index
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final int index,
+        final Object value) {
+        add(methodName, index, null, OBJECT, 0, value);
+    }
+
+    /**
+     * Capture argument of named parameter.
+     * @param methodName The name of the setter
+     * @param name The parameter name
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final String name,
+        final long value) {
+        add(methodName, 0, name, LONG, value, null);
+    }
+
+    /**
+     * Capture argument of named parameter.
+     * @param methodName The name of the setter
+     * @param name The parameter name
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final String name,
+        final double value) {
+        add(methodName, 0, name, DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    /**
+     * Capture argument of named parameter.
+     * @param methodName The name of the setter
+     * @param name The parameter name
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final String name,
+        final boolean value) {
+        add(methodName, 0, name, BOOLEAN, (value == true) ? 1 : 0, null);
+    }
+
+    /**
+     * Capture argument of named parameter.
+     * @param methodName The name of the setter
+     * @param name The parameter name
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final String name,
+        final Object value) {
+        add(methodName, 0, name, OBJECT, 0, value);
+    }
+
+    /**
+     * Capture argument of statement setter.
+     * @param methodName The name of the setter
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final long value) {
+        add(methodName, -1, null, LONG, value, null);
+    }
+
+    /**
+     * Capture argument of statement setter.
+     * @param methodName The name of the setter
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final boolean value) {
+        add(methodName, -1, null, BOOLEAN, (value == true) ? 1 : 0, null);
+    }
+
+    /**
+     * Capture argument of statement setter.
+     * @param methodName The name of the setter
+     * @param value The argument
+     */
+    void add(
+        final String methodName,
+        final Object value) {
+        add(methodName, -1, null, OBJECT, 0, value);
+    }
+
+    /**
+     * Capture argument in the next slot of the ring buffer.
+     * @param methodName The name of the setter
+     * @param index The parameter index, or -1 if the setter does not set a parameter
+     * @param name The parameter name, or null if the parameter is set by index
+     * @param tag The type tag of the argument
+     * @param value The primitive argument
+     * @param reference The reference argument
+     */
+    private void add(
+        final String methodName,
+        final int index,
+        final String name,
+        final byte tag,
+        final long value,
+        final Object reference) {
+
+        int slot;
+
+        slot = count % CAPACITY;
+
+        methodNames[slot] = methodName;
+
+        indexes[slot] = index;
+
+        names[slot] = name;
+
+        tags[slot] = tag;
+
+        values[slot] = value;
+
+        references[slot] = reference;
+
+        count++;
+    }
+
+    /**
+     * Format captured arguments, from the oldest to the newest.
+     * @return The formatted arguments
+     */
+    public String toString() {
+
+        StringBuilder builder;
+        int first;
+        int slot;
+
+        builder = new StringBuilder();
+
+        first = Math.max(count - CAPACITY, 0);
+
+        if (first > 0) {
+            builder.append("{").append(first).append(" earlier arguments not retained}");
+        }
+
+        for (int i = first; i < count; i++) {
+
+            slot = i % CAPACITY;
+
+            builder.append((builder.length() > 0) ? ", " : "").append("{").append(methodNames[slot].substring(3));
+
+            if (names[slot] != null) {
+                builder.append(",").append(names[slot]);
+            }
+            else if (indexes[slot] >= 0) {
+                builder.append(",").append(indexes[slot]);
+            }
+
+            builder.append(",");
+
+            switch (tags[slot]) {
+            case LONG:
+                builder.append(values[slot]);
+                break;
+            case DOUBLE:
+                builder.append(Double.longBitsToDouble(values[slot]));
+                break;
+            case BOOLEAN:
+                builder.append(values[slot] != 0);
+                break;
+            default:
+                builder.append(references[slot]);
+                break;
+            }
+
+            builder.append("}");
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -8,9 +8,9 @@
 */
 package org.melior.jdbc.core;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import org.melior.jdbc.util.DispatchTable;
 import org.melior.service.exception.ApplicationException;
 import org.melior.service.exception.ExceptionType;
 
@@ -21,6 +21,17 @@ import org.melior.service.exception.ExceptionType;
  */
 public class CachedRowSet implements InvocationHandler {
 
+    /**
+     * Kind of handling that a method needs.
+     */
+    private enum Kind {
+        CLOSE,
+        DELEGATE;
+    }
+
+    private static final DispatchTable<Kind> DISPATCH_TABLE = new DispatchTable<Kind>(javax.sql.rowset.CachedRowSet.class,
+        method -> (method.getName().startsWith("close") == true) ? Kind.CLOSE : Kind.DELEGATE);
+
     private Connection connection;
 
     private javax.sql.rowset.CachedRowSet delegate;
@@ -75,18 +86,18 @@ public class CachedRowSet implements InvocationHandler {
         final Method method,
         final Object[] args) throws Throwable {
 
-        String methodName;
+        DispatchTable.Entry<Kind> entry;
         Object invocationResult;
 
-        methodName = method.getName();
+        entry = DISPATCH_TABLE.get(method);
 
-        if (methodName.startsWith("close") == true) {
+        if (entry.getKind() == Kind.CLOSE) {
 
             invocationResult = null;
         }
         else {
 
-            invocationResult = invoke(method, args);
+            invocationResult = invoke(entry, args);
         }
 
         return invocationResult;
@@ -94,26 +105,20 @@ public class CachedRowSet implements InvocationHandler {
 
     /**
      * Handle proxy invocation.
-     * @param method The method to invoke
+     * @param entry The dispatch table entry of the method to invoke
      * @param methodArgs The arguments to invoke with
      * @return The result of the invocation
      * @throws Throwable if the invocation fails
      */
     private Object invoke(
-        final Method method,
+        final DispatchTable.Entry<Kind> entry,
         final Object[] methodArgs) throws Throwable {
 
         Object invocationResult;
 
         try {
 
-            invocationResult = method.invoke(delegate, methodArgs);
-        }
-        catch (InvocationTargetException exception) {
-
-            connection.captureException(exception.getCause());
-
-            throw exception.getCause();
+            invocationResult = entry.invoke(delegate, methodArgs);
         }
         catch (Throwable exception) {
 
@@ -0,0 +1,3045 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.core;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Implements a static proxy for a JDBC {@code CallableStatement} delegate.  The proxy invokes the
+ * delegate directly, without reflection, so that setting parameters neither allocates
+ * nor boxes.
+ * @author Melior
+ * @since 2.3
+ */
+class CallableStatementProxy extends PreparedStatementProxy implements CallableStatement {
+
+    private CallableStatement delegate;
+
+    /**
+     * Constructor.
+     * @param statement The statement wrapper
+     * @param connection The connection
+     * @param delegate The statement
+     * @param arguments The buffer in which the arguments of setters are captured, or null if not enabled
+     */
+    CallableStatementProxy(
+        final Statement statement,
+        final Connection connection,
+        final CallableStatement delegate,
+        final ArgumentBuffer arguments) {
+
+        super(statement, connection, delegate, arguments);
+
+        this.delegate = delegate;
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final int parameterIndex,
+        final int sqlType) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterIndex, sqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @param scale The scale
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final int parameterIndex,
+        final int sqlType,
+        final int scale) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterIndex, sqlType, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code wasNull}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean wasNull() throws SQLException {
+
+        try {
+
+            return delegate.wasNull();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getString}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getString(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getString(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBoolean}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getBoolean(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBoolean(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getByte}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte getByte(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getByte(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getShort}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public short getShort(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getShort(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getInt}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getInt(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getInt(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getLong}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long getLong(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getLong(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFloat}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public float getFloat(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getFloat(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDouble}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public double getDouble(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getDouble(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param parameterIndex The parameter index
+     * @param scale The scale
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    @Deprecated
+    public BigDecimal getBigDecimal(
+        final int parameterIndex,
+        final int scale) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(parameterIndex, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBytes}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte[] getBytes(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBytes(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getDate(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getTime(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getObject(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public BigDecimal getBigDecimal(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param parameterIndex The parameter index
+     * @param map The type map
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final int parameterIndex,
+        final Map<String, Class<?>> map) throws SQLException {
+
+        try {
+
+            return delegate.getObject(parameterIndex, map);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRef}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Ref getRef(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getRef(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBlob}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Blob getBlob(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBlob(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getClob}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Clob getClob(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getClob(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getArray}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Array getArray(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getArray(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param parameterIndex The parameter index
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final int parameterIndex,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getDate(parameterIndex, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param parameterIndex The parameter index
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final int parameterIndex,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTime(parameterIndex, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param parameterIndex The parameter index
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final int parameterIndex,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(parameterIndex, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @param typeName The type name
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final int parameterIndex,
+        final int sqlType,
+        final String typeName) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterIndex, sqlType, typeName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final String parameterName,
+        final int sqlType) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterName, sqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @param scale The scale
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final String parameterName,
+        final int sqlType,
+        final int scale) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterName, sqlType, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @param typeName The type name
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final String parameterName,
+        final int sqlType,
+        final String typeName) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterName, sqlType, typeName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getURL}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public URL getURL(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getURL(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setURL}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param val The val
+     * @throws SQLException if the invocation fails
+     */
+    public void setURL(
+        final String parameterName,
+        final URL val) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setURL", parameterName, val);
+        }
+
+        try {
+
+            delegate.setURL(parameterName, val);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNull}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void setNull(
+        final String parameterName,
+        final int sqlType) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNull", parameterName, sqlType);
+        }
+
+        try {
+
+            delegate.setNull(parameterName, sqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBoolean}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBoolean(
+        final String parameterName,
+        final boolean x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBoolean", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBoolean(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setByte}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setByte(
+        final String parameterName,
+        final byte x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setByte", parameterName, x);
+        }
+
+        try {
+
+            delegate.setByte(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setShort}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setShort(
+        final String parameterName,
+        final short x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setShort", parameterName, x);
+        }
+
+        try {
+
+            delegate.setShort(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setInt}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setInt(
+        final String parameterName,
+        final int x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setInt", parameterName, x);
+        }
+
+        try {
+
+            delegate.setInt(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setLong}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setLong(
+        final String parameterName,
+        final long x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setLong", parameterName, x);
+        }
+
+        try {
+
+            delegate.setLong(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setFloat}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setFloat(
+        final String parameterName,
+        final float x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setFloat", parameterName, x);
+        }
+
+        try {
+
+            delegate.setFloat(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setDouble}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setDouble(
+        final String parameterName,
+        final double x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setDouble", parameterName, x);
+        }
+
+        try {
+
+            delegate.setDouble(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBigDecimal}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBigDecimal(
+        final String parameterName,
+        final BigDecimal x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBigDecimal", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBigDecimal(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setString}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setString(
+        final String parameterName,
+        final String x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setString", parameterName, x);
+        }
+
+        try {
+
+            delegate.setString(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBytes}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBytes(
+        final String parameterName,
+        final byte[] x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBytes", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBytes(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setDate}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setDate(
+        final String parameterName,
+        final Date x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setDate", parameterName, x);
+        }
+
+        try {
+
+            delegate.setDate(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTime}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setTime(
+        final String parameterName,
+        final Time x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTime", parameterName, x);
+        }
+
+        try {
+
+            delegate.setTime(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTimestamp}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setTimestamp(
+        final String parameterName,
+        final Timestamp x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTimestamp", parameterName, x);
+        }
+
+        try {
+
+            delegate.setTimestamp(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAsciiStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setAsciiStream(
+        final String parameterName,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setAsciiStream", parameterName, x);
+        }
+
+        try {
+
+            delegate.setAsciiStream(parameterName, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBinaryStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setBinaryStream(
+        final String parameterName,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBinaryStream", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBinaryStream(parameterName, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @param scale The scale
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final String parameterName,
+        final Object x,
+        final int targetSqlType,
+        final int scale) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterName, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterName, x, targetSqlType, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final String parameterName,
+        final Object x,
+        final int targetSqlType) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterName, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterName, x, targetSqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final String parameterName,
+        final Object x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterName, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCharacterStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setCharacterStream(
+        final String parameterName,
+        final Reader reader,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCharacterStream", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setCharacterStream(parameterName, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setDate}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param cal The calendar
+     * @throws SQLException if the invocation fails
+     */
+    public void setDate(
+        final String parameterName,
+        final Date x,
+        final Calendar cal) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setDate", parameterName, x);
+        }
+
+        try {
+
+            delegate.setDate(parameterName, x, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTime}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param cal The calendar
+     * @throws SQLException if the invocation fails
+     */
+    public void setTime(
+        final String parameterName,
+        final Time x,
+        final Calendar cal) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTime", parameterName, x);
+        }
+
+        try {
+
+            delegate.setTime(parameterName, x, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTimestamp}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param cal The calendar
+     * @throws SQLException if the invocation fails
+     */
+    public void setTimestamp(
+        final String parameterName,
+        final Timestamp x,
+        final Calendar cal) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTimestamp", parameterName, x);
+        }
+
+        try {
+
+            delegate.setTimestamp(parameterName, x, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNull}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @param typeName The type name
+     * @throws SQLException if the invocation fails
+     */
+    public void setNull(
+        final String parameterName,
+        final int sqlType,
+        final String typeName) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNull", parameterName, sqlType);
+        }
+
+        try {
+
+            delegate.setNull(parameterName, sqlType, typeName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getString}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getString(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getString(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBoolean}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getBoolean(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getBoolean(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getByte}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte getByte(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getByte(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getShort}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public short getShort(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getShort(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getInt}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getInt(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getInt(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getLong}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long getLong(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getLong(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFloat}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public float getFloat(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getFloat(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDouble}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public double getDouble(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getDouble(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBytes}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte[] getBytes(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getBytes(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getDate(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getTime(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getObject(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public BigDecimal getBigDecimal(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param parameterName The parameter name
+     * @param map The type map
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final String parameterName,
+        final Map<String, Class<?>> map) throws SQLException {
+
+        try {
+
+            return delegate.getObject(parameterName, map);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRef}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Ref getRef(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getRef(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBlob}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Blob getBlob(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getBlob(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getClob}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Clob getClob(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getClob(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getArray}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Array getArray(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getArray(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param parameterName The parameter name
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final String parameterName,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getDate(parameterName, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param parameterName The parameter name
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final String parameterName,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTime(parameterName, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param parameterName The parameter name
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final String parameterName,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(parameterName, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getURL}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public URL getURL(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getURL(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRowId}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public RowId getRowId(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getRowId(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRowId}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public RowId getRowId(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getRowId(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setRowId}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setRowId(
+        final String parameterName,
+        final RowId x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setRowId", parameterName, x);
+        }
+
+        try {
+
+            delegate.setRowId(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNString}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param value The value
+     * @throws SQLException if the invocation fails
+     */
+    public void setNString(
+        final String parameterName,
+        final String value) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNString", parameterName, value);
+        }
+
+        try {
+
+            delegate.setNString(parameterName, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNCharacterStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param value The value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setNCharacterStream(
+        final String parameterName,
+        final Reader value,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNCharacterStream", parameterName, value);
+        }
+
+        try {
+
+            delegate.setNCharacterStream(parameterName, value, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNClob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param value The value
+     * @throws SQLException if the invocation fails
+     */
+    public void setNClob(
+        final String parameterName,
+        final NClob value) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNClob", parameterName, value);
+        }
+
+        try {
+
+            delegate.setNClob(parameterName, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setClob(
+        final String parameterName,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setClob", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setClob(parameterName, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBlob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param inputStream The input stream
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setBlob(
+        final String parameterName,
+        final InputStream inputStream,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBlob", parameterName, inputStream);
+        }
+
+        try {
+
+            delegate.setBlob(parameterName, inputStream, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNClob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setNClob(
+        final String parameterName,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNClob", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setNClob(parameterName, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNClob}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public NClob getNClob(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getNClob(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNClob}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public NClob getNClob(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getNClob(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setSQLXML}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param xmlObject The xml object
+     * @throws SQLException if the invocation fails
+     */
+    public void setSQLXML(
+        final String parameterName,
+        final SQLXML xmlObject) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setSQLXML", parameterName, xmlObject);
+        }
+
+        try {
+
+            delegate.setSQLXML(parameterName, xmlObject);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getSQLXML}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLXML getSQLXML(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getSQLXML(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getSQLXML}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLXML getSQLXML(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getSQLXML(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNString}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getNString(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getNString(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNString}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getNString(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getNString(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNCharacterStream}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getNCharacterStream(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getNCharacterStream(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNCharacterStream}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getNCharacterStream(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getNCharacterStream(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getCharacterStream}.
+     * @param parameterIndex The parameter index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getCharacterStream(
+        final int parameterIndex) throws SQLException {
+
+        try {
+
+            return delegate.getCharacterStream(parameterIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getCharacterStream}.
+     * @param parameterName The parameter name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getCharacterStream(
+        final String parameterName) throws SQLException {
+
+        try {
+
+            return delegate.getCharacterStream(parameterName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBlob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBlob(
+        final String parameterName,
+        final Blob x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBlob", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBlob(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setClob(
+        final String parameterName,
+        final Clob x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setClob", parameterName, x);
+        }
+
+        try {
+
+            delegate.setClob(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAsciiStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setAsciiStream(
+        final String parameterName,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setAsciiStream", parameterName, x);
+        }
+
+        try {
+
+            delegate.setAsciiStream(parameterName, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBinaryStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setBinaryStream(
+        final String parameterName,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBinaryStream", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBinaryStream(parameterName, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCharacterStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setCharacterStream(
+        final String parameterName,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCharacterStream", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setCharacterStream(parameterName, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAsciiStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setAsciiStream(
+        final String parameterName,
+        final InputStream x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setAsciiStream", parameterName, x);
+        }
+
+        try {
+
+            delegate.setAsciiStream(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBinaryStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBinaryStream(
+        final String parameterName,
+        final InputStream x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBinaryStream", parameterName, x);
+        }
+
+        try {
+
+            delegate.setBinaryStream(parameterName, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCharacterStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void setCharacterStream(
+        final String parameterName,
+        final Reader reader) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCharacterStream", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setCharacterStream(parameterName, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNCharacterStream}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param value The value
+     * @throws SQLException if the invocation fails
+     */
+    public void setNCharacterStream(
+        final String parameterName,
+        final Reader value) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNCharacterStream", parameterName, value);
+        }
+
+        try {
+
+            delegate.setNCharacterStream(parameterName, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void setClob(
+        final String parameterName,
+        final Reader reader) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setClob", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setClob(parameterName, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBlob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param inputStream The input stream
+     * @throws SQLException if the invocation fails
+     */
+    public void setBlob(
+        final String parameterName,
+        final InputStream inputStream) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBlob", parameterName, inputStream);
+        }
+
+        try {
+
+            delegate.setBlob(parameterName, inputStream);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNClob}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void setNClob(
+        final String parameterName,
+        final Reader reader) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNClob", parameterName, reader);
+        }
+
+        try {
+
+            delegate.setNClob(parameterName, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param parameterIndex The parameter index
+     * @param type The type
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T getObject(
+        final int parameterIndex,
+        final Class<T> type) throws SQLException {
+
+        try {
+
+            return delegate.getObject(parameterIndex, type);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param parameterName The parameter name
+     * @param type The type
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T getObject(
+        final String parameterName,
+        final Class<T> type) throws SQLException {
+
+        try {
+
+            return delegate.getObject(parameterName, type);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final String parameterName,
+        final Object x,
+        final SQLType targetSqlType,
+        final int scaleOrLength) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterName, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterName, x, targetSqlType, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterName The parameter name
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final String parameterName,
+        final Object x,
+        final SQLType targetSqlType) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterName, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterName, x, targetSqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final int parameterIndex,
+        final SQLType sqlType) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterIndex, sqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @param scale The scale
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final int parameterIndex,
+        final SQLType sqlType,
+        final int scale) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterIndex, sqlType, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @param typeName The type name
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final int parameterIndex,
+        final SQLType sqlType,
+        final String typeName) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterIndex, sqlType, typeName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final String parameterName,
+        final SQLType sqlType) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterName, sqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @param scale The scale
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final String parameterName,
+        final SQLType sqlType,
+        final int scale) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterName, sqlType, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code registerOutParameter}.
+     * @param parameterName The parameter name
+     * @param sqlType The SQL type
+     * @param typeName The type name
+     * @throws SQLException if the invocation fails
+     */
+    public void registerOutParameter(
+        final String parameterName,
+        final SQLType sqlType,
+        final String typeName) throws SQLException {
+
+        try {
+
+            delegate.registerOutParameter(parameterName, sqlType, typeName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+}
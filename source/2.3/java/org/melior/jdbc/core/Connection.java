@@ -8,18 +8,20 @@
 */
 package org.melior.jdbc.core;
 import java.io.IOException;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.melior.context.service.ServiceContext;
 import org.melior.jdbc.datasource.DataSource;
 import org.melior.jdbc.exception.SQLExceptionMapper;
 import org.melior.jdbc.pool.ConnectionPool;
 import org.melior.jdbc.session.SessionData;
+import org.melior.jdbc.trace.TraceEvent;
+import org.melior.jdbc.trace.Tracer;
 import org.melior.jdbc.util.TimeDelta;
 import org.melior.logging.core.Logger;
 import org.melior.logging.core.LoggerFactory;
@@ -28,7 +30,6 @@ import org.melior.service.exception.ApplicationException;
 import org.melior.service.exception.ExceptionType;
 import org.melior.util.cache.Cache;
 import org.melior.util.cache.LRUCache;
-import org.melior.util.string.StringUtil;
 import org.melior.util.time.Timer;
 
 /**
@@ -40,7 +41,7 @@ import org.melior.util.time.Timer;
  * @author Melior
  * @since 2.2
  */
-public class Connection implements InvocationHandler {
+public class Connection {
 
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -48,10 +49,18 @@ public class Connection implements InvocationHandler {
 
     private ConnectionPool connectionPool;
 
+    private Tracer tracer;
+
     private String connectionId;
 
     private Timer lifetimeTimer;
 
+    private double lifetimeFactor;
+
+    private volatile boolean replaced;
+
+    private int generation;
+
     private SessionData sessionData;
 
     private TimeDelta timeDelta;
@@ -62,7 +71,25 @@ public class Connection implements InvocationHandler {
 
     private String connectionDescriptor;
 
-    private Thread ownerThread;
+    private String url;
+
+    private volatile Object owner;
+
+    private volatile long lastBorrowTime;
+
+    private volatile Throwable borrowStack;
+
+    private volatile boolean leakReported;
+
+    private volatile boolean reclaimed;
+
+    private volatile long lastReturnTime;
+
+    private volatile long lastValidationTime;
+
+    private AtomicBoolean available;
+
+    private volatile int stripe;
 
     private boolean commitPending;
 
@@ -74,17 +101,14 @@ public class Connection implements InvocationHandler {
 
     private boolean validationSupported;
 
-    private StringBuilder arguments;
-
     /**
      * Constructor.
      * @param dataSource The data source
      * @param connectionPool The connection pool
-     * @throws ApplicationException if an error occurs during the construction
      */
     public Connection(
         final DataSource dataSource,
-        final ConnectionPool connectionPool) throws ApplicationException {
+        final ConnectionPool connectionPool) {
 
         super();
 
@@ -92,10 +116,18 @@ public class Connection implements InvocationHandler {
 
         this.connectionPool = connectionPool;
 
+        tracer = dataSource.getTracer();
+
         connectionId = String.valueOf(this.hashCode());
 
         lifetimeTimer = Timer.ofMillis().start();
 
+        lifetimeFactor = 1 - (ThreadLocalRandom.current().nextDouble() * dataSource.getLifetimeJitter() / 100);
+
+        replaced = false;
+
+        generation = connectionPool.getGeneration();
+
         sessionData = null;
 
         timeDelta = dataSource.getTimeDelta();
@@ -104,24 +136,33 @@ public class Connection implements InvocationHandler {
 
         setConnectionDescriptor();
 
+        url = null;
+
         commitPending = false;
 
-        ownerThread = null;
+        owner = null;
+
+        lastBorrowTime = 0;
 
+        borrowStack = null;
+
+        leakReported = false;
+
+        reclaimed = false;
+
+        lastReturnTime = System.currentTimeMillis();
+
+        lastValidationTime = 0;
+
+        available = new AtomicBoolean(false);
+
+        stripe = 0;
+
         lastException = null;
 
         delegate = null;
 
-        try {
-
-            proxy = (java.sql.Connection) Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
-                new Class[] {java.sql.Connection.class}, this);
-        }
-        catch (Exception exception) {
-            throw new ApplicationException(ExceptionType.LOCAL_APPLICATION, "Failed to create connection proxy: " + exception.getMessage(), exception);
-        }
-
-        arguments = null;
+        proxy = null;
     }
 
     /**
@@ -131,6 +172,22 @@ public class Connection implements InvocationHandler {
     public String getConnectionDescriptor() {
         return connectionDescriptor;
     }
+
+    /**
+     * Get URL that the connection was opened to.
+     * @return The URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Check whether connection was opened to a URL other than the current URL of the data source.
+     * @return true if the connection was opened to another URL, false otherwise
+     */
+    public boolean isStale() {
+        return (url != null) && (url.equals(dataSource.getUrl()) == false);
+    }
 
     /**
      * Get proxy.
@@ -141,30 +198,182 @@ public class Connection implements InvocationHandler {
     }
 
     /**
-     * Allocate connection to specified thread.
-     * @param thread The thread that will own the connection
+     * Allocate connection to specified owner.  When the owner reuses a connection that it still
+     * holds, the borrow time and the sampled call site of the original borrow are retained, so
+     * that a connection that is reused repeatedly is still reported if it is held for too long.
+     * @param owner The owner of the connection, which is either the thread that borrowed the
+     * connection, or the connection itself if the connection pool does not use thread affinity
+     * @param reuse true if the owner reuses a connection that it still holds, false otherwise
      */
     public void allocate(
-        final Thread thread) {
+        final Object owner,
+        final boolean reuse) {
+
+        this.owner = owner;
+
+        if (reuse == false) {
 
-        ownerThread = thread;
+            lastBorrowTime = System.currentTimeMillis();
+
+            borrowStack = null;
+
+            leakReported = false;
+        }
 
         lastException = null;
     }
 
     /**
-     * Release connection from specified thread.
-     * @param thread The thread that owns the connection
+     * Release connection from specified owner.
+     * @param owner The owner of the connection
+     * @return true if the connection was released, false if the connection has been reclaimed by the connection pool
      * @throws SQLException if the connection has already been released
      */
-    public void release(
-        final Thread thread) throws SQLException {
+    public synchronized boolean release(
+        final Object owner) throws SQLException {
+
+        if (reclaimed == true) {
+            return false;
+        }
 
-        if ((ownerThread == null) || (ownerThread != thread)) {
+        if ((this.owner == null) || (this.owner != owner)) {
             throw new SQLException("Connection has already been released.  Consider passing connection between methods.", SQLState.CONNECTION_INVALID.value());
         }
 
-        ownerThread = null;
+        this.owner = null;
+
+        lastReturnTime = System.currentTimeMillis();
+
+        return true;
+    }
+
+    /**
+     * Get time at which the connection was last borrowed.
+     * @return The time at which the connection was last borrowed
+     */
+    public long getLastBorrowTime() {
+        return lastBorrowTime;
+    }
+
+    /**
+     * Check whether connection owns itself, rather than being owned by the thread that borrowed it.
+     * @return true if the connection owns itself, false otherwise
+     */
+    public boolean isDetached() {
+        return owner == this;
+    }
+
+    /**
+     * Check whether connection is allocated to a borrower.
+     * @return true if the connection is allocated, false otherwise
+     */
+    public boolean isAllocated() {
+        return owner != null;
+    }
+
+    /**
+     * Get stack trace of the borrower that holds the connection.
+     * @return The stack trace of the borrower, or null if the borrow was not sampled
+     */
+    public Throwable getBorrowStack() {
+        return borrowStack;
+    }
+
+    /**
+     * Set stack trace of the borrower that holds the connection.
+     * @param borrowStack The stack trace of the borrower
+     */
+    public void setBorrowStack(
+        final Throwable borrowStack) {
+        this.borrowStack = borrowStack;
+    }
+
+    /**
+     * Mark connection as reported for being held for longer than the leak threshold.
+     * @return true if the connection was not yet reported for the current borrow, false otherwise
+     */
+    public boolean markLeakReported() {
+
+        if (leakReported == true) {
+            return false;
+        }
+
+        leakReported = true;
+
+        return true;
+    }
+
+    /**
+     * Reclaim connection from a borrower that held it for longer than the leak threshold.
+     * A reclaimed connection is never returned to the connection pool.
+     * @return true if the connection was reclaimed, false if the borrower has already released it
+     */
+    public synchronized boolean reclaim() {
+
+        if (owner == null) {
+            return false;
+        }
+
+        reclaimed = true;
+
+        return true;
+    }
+
+    /**
+     * Check whether connection has been reclaimed by the connection pool.
+     * @return true if the connection has been reclaimed, false otherwise
+     */
+    public boolean isReclaimed() {
+        return reclaimed;
+    }
+
+    /**
+     * Get time at which the connection was last returned to the connection pool.
+     * @return The time at which the connection was last returned
+     */
+    public long getLastReturnTime() {
+        return lastReturnTime;
+    }
+
+    /**
+     * Get time at which the connection was last used, which is either the time at which
+     * it was last returned to the connection pool, or the time at which it was last validated.
+     * @return The time at which the connection was last used
+     */
+    public long getLastActivityTime() {
+        return Math.max(lastReturnTime, lastValidationTime);
+    }
+
+    /**
+     * Mark connection as available to be claimed from the connection pool.
+     */
+    public void markAvailable() {
+        available.set(true);
+    }
+
+    /**
+     * Get stripe of the connection pool in which the connection was last made available.
+     * @return The stripe
+     */
+    public int getStripe() {
+        return stripe;
+    }
+
+    /**
+     * Set stripe of the connection pool in which the connection is made available.
+     * @param stripe The stripe
+     */
+    public void setStripe(
+        final int stripe) {
+        this.stripe = stripe;
+    }
+
+    /**
+     * Claim connection from the connection pool.
+     * @return true if the connection was claimed, false if the connection has already been claimed
+     */
+    public boolean claim() {
+        return available.compareAndSet(true, false);
     }
 
     /**
@@ -189,29 +398,102 @@ public class Connection implements InvocationHandler {
 
         }
 
-        if ((fullValidation == true) && (validationSupported == true)) {
+        if ((fullValidation == true) && (isValidationSupported() == true)) {
             logger.debug(methodName, "Connection [", connectionDescriptor, "] is being validated.");
 
             try {
 
-                return delegate.isValid(dataSource.getValidationTimeout());
+                if (((dataSource.getValidationQuery() == null) ? delegate.isValid(dataSource.getValidationTimeout()) : ping()) == false) {
+                    return false;
+                }
+
+                lastValidationTime = System.currentTimeMillis();
             }
             catch (Exception exception) {
                 return false;
             }
 
         }
+
+        return true;
+    }
+
+    /**
+     * Check whether connection can be validated, either by the driver or by the validation query.
+     * @return true if the connection can be validated, false otherwise
+     */
+    public boolean isValidationSupported() {
+        return (validationSupported == true) || (dataSource.getValidationQuery() != null);
+    }
+
+    /**
+     * Validate connection by executing the validation query.
+     * @return true if the validation query executed successfully
+     * @throws SQLException if the validation query failed
+     */
+    private boolean ping() throws SQLException {
+
+        java.sql.Statement statement;
+
+        statement = delegate.createStatement();
+
+        try {
+
+            statement.setQueryTimeout(dataSource.getValidationTimeout());
+
+            statement.execute(dataSource.getValidationQuery());
+        }
+        finally {
+
+            statement.close();
+        }
 
         return true;
     }
 
     /**
-     * Check whether connection has reached end-of-life
+     * Check whether connection has reached end-of-life, which includes having been opened
+     * with the configuration of a previous generation, so that outdated connections are
+     * rolled over as they are borrowed or released.
      * @return true if the connection has reached end-of-life, false otherwise
      */
     public boolean isEndOfLife() {
-        return (dataSource.getMaximumLifetime() > 0)
-            && (lifetimeTimer.elapsedTime() > dataSource.getMaximumLifetime());
+        return (replaced == true) || (getRemainingLifetime() < 0) || (isOutdated() == true);
+    }
+
+    /**
+     * Get amount of time until the connection reaches end-of-life.  The maximum lifetime is
+     * shortened by a random jitter for each connection, so that connections that were opened
+     * together do not reach end-of-life together.
+     * @return The amount of time until the connection reaches end-of-life, in milliseconds
+     */
+    public long getRemainingLifetime() {
+        return (dataSource.getMaximumLifetime() == 0) ? Long.MAX_VALUE
+            : (long) (dataSource.getMaximumLifetime() * lifetimeFactor) - lifetimeTimer.elapsedTime();
+    }
+
+    /**
+     * Mark connection as replaced, after a replacement connection has been opened ahead of
+     * end-of-life.  A replaced connection is retired as soon as it is borrowed or released.
+     */
+    public void markReplaced() {
+        replaced = true;
+    }
+
+    /**
+     * Check whether connection was opened with the configuration of a previous generation.
+     * @return true if the connection is outdated, false otherwise
+     */
+    public boolean isOutdated() {
+        return generation != connectionPool.getGeneration();
+    }
+
+    /**
+     * Check whether connection has been replaced.
+     * @return true if the connection has been replaced, false otherwise
+     */
+    public boolean isReplaced() {
+        return replaced;
     }
 
     /**
@@ -222,17 +504,21 @@ public class Connection implements InvocationHandler {
 
         String methodName = "open";
         SessionController sessionController;
-        Timer timer;
+        long start;
         long duration;
 
-        timer = Timer.ofNanos().start();
+        start = System.nanoTime();
 
         try {
-            logger.debug(methodName, "Connection [", connectionDescriptor, "] attempting to open.  URL = ", dataSource.getUrl());
+            url = dataSource.getUrl();
+
+            logger.debug(methodName, "Connection [", connectionDescriptor, "] attempting to open.  URL = ", url);
 
             DriverManager.setLoginTimeout(dataSource.getConnectionTimeout());
-            delegate = DriverManager.getConnection(dataSource.getUrl(), dataSource.getConnectionProperties());
+            delegate = DriverManager.getConnection(url, dataSource.getConnectionProperties());
 
+            proxy = new ConnectionProxy(this, delegate);
+
             try {
 
                 configureConnection(dataSource, delegate);
@@ -265,13 +551,13 @@ public class Connection implements InvocationHandler {
                 throw exception;
             }
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+            duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 
             logger.debug(methodName, "Connection [", connectionDescriptor, "] opened successfully.  Duration = ", duration, " ms.");
         }
         catch (Exception exception) {
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+            duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 
             logger.error(methodName, "Connection [", connectionDescriptor, "] open attempt failed.  Duration = ", duration, " ms.");
 
@@ -282,6 +568,39 @@ public class Connection implements InvocationHandler {
 
     }
 
+    /**
+     * Prepare statements ahead of the first borrower.  The statements are closed again after
+     * they have been prepared, which places them in the statement cache.  A statement that
+     * fails to prepare is skipped, as it fails again when it is prepared by a borrower.
+     * @param statements The statements to prepare
+     */
+    public void prepareStatements(
+        final List<String> statements) {
+
+        String methodName = "prepareStatements";
+
+        for (String text : statements) {
+
+            try {
+
+                if (text.trim().startsWith("{") == true) {
+
+                    proxy.prepareCall(text).close();
+                }
+                else {
+
+                    proxy.prepareStatement(text).close();
+                }
+
+            }
+            catch (Exception exception) {
+                logger.warn(methodName, "Connection [", connectionDescriptor, "] failed to prepare statement: ", exception.getMessage());
+            }
+
+        }
+
+    }
+
     /**
      * Close connection.
      */
@@ -314,6 +633,35 @@ public class Connection implements InvocationHandler {
 
     }
 
+    /**
+     * Abort connection that failed to close in time.  The driver releases the resources of
+     * the connection, including any thread that is blocked closing it, using the executor.
+     * @param executor The executor
+     */
+    public void abort(
+        final Executor executor) {
+
+        String methodName = "abort";
+        java.sql.Connection connection;
+
+        connection = delegate;
+
+        if (connection == null) {
+            return;
+        }
+
+        try {
+
+            connection.abort(executor);
+
+            logger.debug(methodName, "Connection [", connectionDescriptor, "] aborted successfully.");
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Connection [", connectionDescriptor, "] abort attempt failed.", exception);
+        }
+
+    }
+
     /**
      * Configure connection.
      * @param dataSource The data source
@@ -429,6 +777,23 @@ public class Connection implements InvocationHandler {
         this.commitPending = commitPending;
     }
 
+    /**
+     * Get tracer.
+     * @return The tracer
+     */
+    Tracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Record latency of statement execution.
+     * @param latency The latency, in nanoseconds
+     */
+    void recordLatency(
+        final long latency) {
+        connectionPool.recordLatency(latency);
+    }
+
     /**
      * Capture last exception.
      * @param exception The last exception
@@ -442,259 +807,225 @@ public class Connection implements InvocationHandler {
     }
 
     /**
-     * Handle proxy invocation.
-     * @param object The object on which the method was invoked
-     * @param method The method to invoke
-     * @param args The arguments to invoke with
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * Get cached statement.  The SQL text is logged if the arguments are logged.
+     * @param methodName The method name
+     * @param sql The SQL text
+     * @return The proxy of the cached statement, or null if the statement is not cached
      */
-    public Object invoke(
-        final Object object,
-        final Method method,
-        final Object[] args) throws Throwable {
+    java.sql.Statement getCachedStatement(
+        final String methodName,
+        final String sql) {
 
-        String methodName;
-        Class[] methodParameterTypes;
         Statement statement;
-        Object invocationResult;
-        Method rollbackMethod;
 
-        methodName = method.getName();
+        if (dataSource.isLogArguments() == true) {
+            logger.debug(methodName, "arguments = {", sql, "}");
+        }
 
-        logArguments(methodName, args);
+        if (statementCache.getCapacity() == 0) {
+            return null;
+        }
 
-        if ((methodName.equals("prepareStatement") == true) || (methodName.equals("prepareCall") == true)) {
+        statementCache.setCapacity(dataSource.getStatementCacheSize());
 
-            methodParameterTypes = method.getParameterTypes();
+        statement = statementCache.get(sql);
 
-            if ((statementCache.getCapacity() > 0) && (methodParameterTypes.length > 0)
-                && (methodParameterTypes[0] == String.class)) {
+        if (statement == null) {
+            return null;
+        }
 
-                statementCache.setCapacity(dataSource.getStatementCacheSize());
+        tracer.trace(logger, methodName, TraceEvent.STATEMENT_CACHED, connectionDescriptor);
 
-                statement = statementCache.get(args[0]);
+        return statement.getProxy();
+    }
 
-                if (statement != null) {
+    /**
+     * Wrap statement that has been prepared.  The statement is cached when it is closed,
+     * if the statement cache is enabled.
+     * @param methodName The method name
+     * @param start The time at which the invocation started, in nanoseconds
+     * @param sql The SQL text
+     * @param statement The statement
+     * @return The proxy of the statement
+     */
+    java.sql.Statement statementPrepared(
+        final String methodName,
+        final long start,
+        final String sql,
+        final java.sql.Statement statement) {
 
-                    invocationResult = statement.getProxy();
+        invocationSucceeded(methodName, start, "statement prepared successfully");
 
-                    logger.debug(methodName, "Connection [", connectionDescriptor, "] using cached statement.");
-                }
-                else {
+        return (statementCache.getCapacity() > 0) ? new Statement(dataSource, this, statementCache, statement, sql).getProxy()
+            : new Statement(dataSource, this, null, statement, sql).getProxy();
+    }
+
+    /**
+     * Wrap statement that has been created.
+     * @param methodName The method name
+     * @param start The time at which the invocation started, in nanoseconds
+     * @param statement The statement
+     * @return The proxy of the statement
+     */
+    java.sql.Statement statementCreated(
+        final String methodName,
+        final long start,
+        final java.sql.Statement statement) {
 
-                    invocationResult = invokeMeasured(method, methodName, args, "statement prepared successfully", "statement prepare failed");
+        invocationSucceeded(methodName, start, "statement created successfully");
 
-                    statement = new Statement(dataSource, this, statementCache, (java.sql.Statement) invocationResult, (String) args[0]);
+        return new Statement(dataSource, this, null, statement, null).getProxy();
+    }
 
-                    invocationResult = statement.getProxy();
-                }
-
-            }
-            else {
+    /**
+     * Get database metadata.  If metadata caching is enabled, then the metadata is retrieved
+     * once and cached for the lifetime of the connection.
+     * @return The database metadata
+     * @throws SQLException if unable to get the database metadata
+     */
+    java.sql.DatabaseMetaData getMetaData() throws SQLException {
 
-                invocationResult = invokeMeasured(method, methodName, args, "statement prepared successfully", "statement prepare failed");
+        String methodName = "getMetaData";
+        java.sql.DatabaseMetaData databaseMetaData;
+        long start;
 
-                statement = new Statement(dataSource, this, null, (java.sql.Statement) invocationResult, null);
+        if ((dataSource.isCacheMetadata() == true) && (metadata != null)) {
+            tracer.trace(logger, methodName, TraceEvent.METADATA_CACHED, connectionDescriptor);
 
-                invocationResult = statement.getProxy();
-            }
-
-        }
+            commitPending = false;
 
-        else if (methodName.equals("createStatement") == true) {
+            return metadata.getProxy();
+        }
 
-            invocationResult = invokeMeasured(method, methodName, args, "statement created successfully", "statement create failed");
+        start = System.nanoTime();
 
-            statement = new Statement(dataSource, this, null, (java.sql.Statement) invocationResult, null);
+        try {
 
-            invocationResult = statement.getProxy();
+            databaseMetaData = delegate.getMetaData();
         }
+        catch (SQLException | RuntimeException exception) {
 
-        else if (methodName.equals("getMetaData") == true) {
+            invocationFailed(methodName, start, "metadata retrieval failed", exception);
 
-            if (dataSource.isCacheMetadata() == true) {
+            throw exception;
+        }
 
-                if (metadata != null) {
-                    logger.debug(methodName, "Connection [", connectionDescriptor, "] using cached metadata.");
-                }
-                else {
+        invocationSucceeded(methodName, start, "metadata retrieved successfully");
 
-                    invocationResult = invokeMeasured(method, methodName, args, "metadata retrieved successfully", "metadata retrieval failed");
+        if (dataSource.isCacheMetadata() == true) {
 
-                    metadata = new DatabaseMetaData(this, (java.sql.DatabaseMetaData) invocationResult);
-                }
+            try {
 
-                invocationResult = metadata.getProxy();
+                metadata = new DatabaseMetaData(this, databaseMetaData);
             }
-            else {
-
-                invocationResult = invokeMeasured(method, methodName, args, "metadata retrieved successfully", "metadata retrieval failed");
+            catch (ApplicationException exception) {
+                throw new SQLException(exception.getMessage(), SQLState.DYNAMIC_SQL_ERROR.value(), exception);
             }
 
-            commitPending = false;
+            databaseMetaData = metadata.getProxy();
         }
 
-        else if (methodName.equals("commit") == true) {
-
-            invocationResult = invokeMeasured(method, methodName, args, "transaction committed successfully", "transaction commit failed");
+        commitPending = false;
 
-            commitPending = false;
-        }
+        return databaseMetaData;
+    }
 
-        else if (methodName.equals("rollback") == true) {
+    /**
+     * Complete transaction control invocation.  No transaction commit is pending afterwards.
+     * @param methodName The method name
+     * @param start The time at which the invocation started, in nanoseconds
+     * @param successMessage The message to log
+     */
+    void transactionCompleted(
+        final String methodName,
+        final long start,
+        final String successMessage) {
 
-            invocationResult = invokeMeasured(method, methodName, args, "transaction rolled back successfully", "transaction rollback failed");
+        invocationSucceeded(methodName, start, successMessage);
 
-            commitPending = false;
-        }
+        commitPending = false;
+    }
 
-        else if (methodName.equals("close") == true) {
-
-            try {
+    /**
+     * Return connection to the connection pool.  If a transaction commit is pending, then the
+     * transaction is rolled back before the connection is returned.
+     * @throws SQLException if a transaction commit was pending, or if the rollback fails
+     */
+    void returnToPool() throws SQLException {
 
-                if (commitPending == true) {
+        long start;
 
-                    rollbackMethod = delegate.getClass().getMethod("rollback", new Class[0]);
+        try {
 
-                    invocationResult = invokeMeasured(rollbackMethod, rollbackMethod.getName(), new Object[0], "transaction rolled back successfully", "transaction rollback failed");
+            if (commitPending == true) {
 
-                    commitPending = false;
+                start = System.nanoTime();
 
-                    throw new SQLException("Executed forced rollback because transaction was left uncommitted.");
-                }
-
-            }
-            finally {
-
                 try {
 
-                    delegate.clearWarnings();
-                }
-                catch (Exception exception) {
+                    delegate.rollback();
                 }
+                catch (SQLException | RuntimeException exception) {
 
-                connectionPool.releaseConnection(this);
-            }
+                    invocationFailed("rollback", start, "transaction rollback failed", exception);
 
-            invocationResult = null;
-        }
-        else {
+                    throw exception;
+                }
+
+                transactionCompleted("rollback", start, "transaction rolled back successfully");
 
-            invocationResult = invoke(method, args);
-        }
+                throw new SQLException("Executed forced rollback because transaction was left uncommitted.");
+            }
 
-        return invocationResult;
-    }
+        }
+        finally {
 
-    /**
-     * Log method arguments.
-     * @param methodName The method name
-     * @param methodArgs The method arguments
-     */
-    private void logArguments(
-        final String methodName,
-        final Object[] methodArgs) {
-
-        if ((dataSource.isLogArguments() == true) && (methodArgs != null)) {
-
-            arguments = (arguments == null) ? new StringBuilder() : arguments;
-
-            arguments.append("{").append(StringUtil.join(methodArgs, "}, {")).append("}");
+            try {
 
-            logger.debug(methodName, "arguments = ", arguments.toString());
+                delegate.clearWarnings();
+            }
+            catch (Exception exception) {
+            }
 
-            arguments.delete(0, arguments.length());
+            connectionPool.releaseConnection(this);
         }
 
     }
 
     /**
-     * Handle proxy invocation.
-     * @param method The method to invoke
-     * @param methodArgs The arguments to invoke with
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * Trace successful invocation.
+     * @param methodName The method name
+     * @param start The time at which the invocation started, in nanoseconds
+     * @param successMessage The message to trace
      */
-    private Object invoke(
-        final Method method,
-        final Object[] methodArgs) throws Throwable {
-
-        Object invocationResult;
-
-        try {
-
-            invocationResult = method.invoke(delegate, methodArgs);
-        }
-        catch (InvocationTargetException exception) {
-
-            captureException(exception.getCause());
-
-            throw exception.getCause();
-        }
-        catch (Throwable exception) {
-
-            captureException(exception);
-
-            throw exception;
-        }
-
-        return invocationResult;
+    private void invocationSucceeded(
+        final String methodName,
+        final long start,
+        final String successMessage) {
+        tracer.trace(logger, methodName, TraceEvent.INVOCATION_SUCCEEDED, connectionDescriptor, successMessage,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     /**
-     * Handle proxy invocation.
-     * @param method The method to invoke
+     * Log failed invocation and capture the exception.
      * @param methodName The method name
-     * @param methodArgs The arguments to invoke with
-     * @param successMessage The message to log on success
-     * @param failureMessage The message to log on failure
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
-     */
-    private Object invokeMeasured(
-        final Method method,
+     * @param start The time at which the invocation started, in nanoseconds
+     * @param failureMessage The message to log
+     * @param exception The exception
+     */
+    void invocationFailed(
         final String methodName,
-        final Object[] methodArgs,
-        final String successMessage,
-        final String failureMessage) throws Throwable {
+        final long start,
+        final String failureMessage,
+        final Throwable exception) {
 
-        Timer timer;
-        Object invocationResult;
         long duration;
 
-        timer = Timer.ofNanos().start();
-
-        try {
-
-            invocationResult = method.invoke(delegate, methodArgs);
-
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+        duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 
-            logger.debug(methodName, "Connection [", connectionDescriptor, "] ", successMessage, ".  Duration = ", duration, " ms.");
-        }
-        catch (InvocationTargetException exception) {
+        logger.error(methodName, "Connection [", connectionDescriptor, "] ", failureMessage, ".  Duration = ", duration, " ms.");
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
-
-            logger.error(methodName, "Connection [", connectionDescriptor, "] ", failureMessage, ".  Duration = ", duration, " ms.");
-
-            captureException(exception.getCause());
-
-            throw exception.getCause();
-        }
-        catch (Throwable exception) {
-
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
-
-            logger.error(methodName, "Connection [", connectionDescriptor, "] ", failureMessage, ".  Duration = ", duration, " ms.");
-
-            captureException(exception);
-
-            throw exception;
-        }
-
-        return invocationResult;
+        captureException(exception);
     }
 
 }
@@ -0,0 +1,1341 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.core;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Implements a static proxy for a JDBC {@code Connection} delegate.  The proxy invokes the
+ * delegate directly, without reflection.  Preparing and creating statements, transaction
+ * control, metadata retrieval and closing the connection are routed to the connection.
+ * @author Melior
+ * @since 2.3
+ */
+class ConnectionProxy implements java.sql.Connection {
+
+    private Connection connection;
+
+    private java.sql.Connection delegate;
+
+    /**
+     * Constructor.
+     * @param connection The connection
+     * @param delegate The connection delegate
+     */
+    ConnectionProxy(
+        final Connection connection,
+        final java.sql.Connection delegate) {
+
+        super();
+
+        this.connection = connection;
+
+        this.delegate = delegate;
+    }
+
+    /**
+     * Create statement.
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.Statement createStatement() throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.createStatement();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("createStatement", start, "statement create failed", exception);
+
+            throw exception;
+        }
+
+        return connection.statementCreated("createStatement", start, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public PreparedStatement prepareStatement(
+        final String sql) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareStatement", sql);
+
+        if (statement != null) {
+            return (PreparedStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareStatement(sql);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareStatement", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (PreparedStatement) connection.statementPrepared("prepareStatement", start, sql, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public CallableStatement prepareCall(
+        final String sql) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareCall", sql);
+
+        if (statement != null) {
+            return (CallableStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareCall(sql);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareCall", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (CallableStatement) connection.statementPrepared("prepareCall", start, sql, statement);
+    }
+
+    /**
+     * Delegate invocation of {@code nativeSQL}.
+     * @param sql The SQL text
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String nativeSQL(
+        final String sql) throws SQLException {
+
+        try {
+
+            return delegate.nativeSQL(sql);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAutoCommit}.
+     * @param autoCommit The auto-commit indicator
+     * @throws SQLException if the invocation fails
+     */
+    public void setAutoCommit(
+        final boolean autoCommit) throws SQLException {
+
+        try {
+
+            delegate.setAutoCommit(autoCommit);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getAutoCommit}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getAutoCommit() throws SQLException {
+
+        try {
+
+            return delegate.getAutoCommit();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Commit transaction.
+     * @throws SQLException if the invocation fails
+     */
+    public void commit() throws SQLException {
+
+        long start;
+
+        start = System.nanoTime();
+
+        try {
+
+            delegate.commit();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("commit", start, "transaction commit failed", exception);
+
+            throw exception;
+        }
+
+        connection.transactionCompleted("commit", start, "transaction committed successfully");
+    }
+
+    /**
+     * Roll back transaction.
+     * @throws SQLException if the invocation fails
+     */
+    public void rollback() throws SQLException {
+
+        long start;
+
+        start = System.nanoTime();
+
+        try {
+
+            delegate.rollback();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("rollback", start, "transaction rollback failed", exception);
+
+            throw exception;
+        }
+
+        connection.transactionCompleted("rollback", start, "transaction rolled back successfully");
+    }
+
+    /**
+     * Release connection back to the connection pool.
+     * @throws SQLException if the invocation fails
+     */
+    public void close() throws SQLException {
+        connection.returnToPool();
+    }
+
+    /**
+     * Delegate invocation of {@code isClosed}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isClosed() throws SQLException {
+
+        try {
+
+            return delegate.isClosed();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Get database metadata, which may be cached.
+     * @return The database metadata
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.DatabaseMetaData getMetaData() throws SQLException {
+        return connection.getMetaData();
+    }
+
+    /**
+     * Delegate invocation of {@code setReadOnly}.
+     * @param readOnly The read-only indicator
+     * @throws SQLException if the invocation fails
+     */
+    public void setReadOnly(
+        final boolean readOnly) throws SQLException {
+
+        try {
+
+            delegate.setReadOnly(readOnly);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isReadOnly}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isReadOnly() throws SQLException {
+
+        try {
+
+            return delegate.isReadOnly();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCatalog}.
+     * @param catalog The catalog
+     * @throws SQLException if the invocation fails
+     */
+    public void setCatalog(
+        final String catalog) throws SQLException {
+
+        try {
+
+            delegate.setCatalog(catalog);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getCatalog}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getCatalog() throws SQLException {
+
+        try {
+
+            return delegate.getCatalog();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTransactionIsolation}.
+     * @param level The transaction isolation level
+     * @throws SQLException if the invocation fails
+     */
+    public void setTransactionIsolation(
+        final int level) throws SQLException {
+
+        try {
+
+            delegate.setTransactionIsolation(level);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTransactionIsolation}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getTransactionIsolation() throws SQLException {
+
+        try {
+
+            return delegate.getTransactionIsolation();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getWarnings}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLWarning getWarnings() throws SQLException {
+
+        try {
+
+            return delegate.getWarnings();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code clearWarnings}.
+     * @throws SQLException if the invocation fails
+     */
+    public void clearWarnings() throws SQLException {
+
+        try {
+
+            delegate.clearWarnings();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Create statement.
+     * @param resultSetType The result set type
+     * @param resultSetConcurrency The result set concurrency
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.Statement createStatement(
+        final int resultSetType,
+        final int resultSetConcurrency) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.createStatement(resultSetType, resultSetConcurrency);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("createStatement", start, "statement create failed", exception);
+
+            throw exception;
+        }
+
+        return connection.statementCreated("createStatement", start, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param resultSetType The result set type
+     * @param resultSetConcurrency The result set concurrency
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareStatement", sql);
+
+        if (statement != null) {
+            return (PreparedStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareStatement", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (PreparedStatement) connection.statementPrepared("prepareStatement", start, sql, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param resultSetType The result set type
+     * @param resultSetConcurrency The result set concurrency
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public CallableStatement prepareCall(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareCall", sql);
+
+        if (statement != null) {
+            return (CallableStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareCall(sql, resultSetType, resultSetConcurrency);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareCall", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (CallableStatement) connection.statementPrepared("prepareCall", start, sql, statement);
+    }
+
+    /**
+     * Delegate invocation of {@code getTypeMap}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+
+        try {
+
+            return delegate.getTypeMap();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTypeMap}.
+     * @param map The type map
+     * @throws SQLException if the invocation fails
+     */
+    public void setTypeMap(
+        final Map<String, Class<?>> map) throws SQLException {
+
+        try {
+
+            delegate.setTypeMap(map);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setHoldability}.
+     * @param holdability The holdability
+     * @throws SQLException if the invocation fails
+     */
+    public void setHoldability(
+        final int holdability) throws SQLException {
+
+        try {
+
+            delegate.setHoldability(holdability);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getHoldability}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getHoldability() throws SQLException {
+
+        try {
+
+            return delegate.getHoldability();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setSavepoint}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Savepoint setSavepoint() throws SQLException {
+
+        try {
+
+            return delegate.setSavepoint();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setSavepoint}.
+     * @param name The name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Savepoint setSavepoint(
+        final String name) throws SQLException {
+
+        try {
+
+            return delegate.setSavepoint(name);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Roll back transaction.
+     * @param savepoint The savepoint
+     * @throws SQLException if the invocation fails
+     */
+    public void rollback(
+        final Savepoint savepoint) throws SQLException {
+
+        long start;
+
+        start = System.nanoTime();
+
+        try {
+
+            delegate.rollback(savepoint);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("rollback", start, "transaction rollback failed", exception);
+
+            throw exception;
+        }
+
+        connection.transactionCompleted("rollback", start, "transaction rolled back successfully");
+    }
+
+    /**
+     * Delegate invocation of {@code releaseSavepoint}.
+     * @param savepoint The savepoint
+     * @throws SQLException if the invocation fails
+     */
+    public void releaseSavepoint(
+        final Savepoint savepoint) throws SQLException {
+
+        try {
+
+            delegate.releaseSavepoint(savepoint);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Create statement.
+     * @param resultSetType The result set type
+     * @param resultSetConcurrency The result set concurrency
+     * @param resultSetHoldability The result set holdability
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.Statement createStatement(
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("createStatement", start, "statement create failed", exception);
+
+            throw exception;
+        }
+
+        return connection.statementCreated("createStatement", start, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param resultSetType The result set type
+     * @param resultSetConcurrency The result set concurrency
+     * @param resultSetHoldability The result set holdability
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareStatement", sql);
+
+        if (statement != null) {
+            return (PreparedStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareStatement", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (PreparedStatement) connection.statementPrepared("prepareStatement", start, sql, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param resultSetType The result set type
+     * @param resultSetConcurrency The result set concurrency
+     * @param resultSetHoldability The result set holdability
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public CallableStatement prepareCall(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareCall", sql);
+
+        if (statement != null) {
+            return (CallableStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareCall", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (CallableStatement) connection.statementPrepared("prepareCall", start, sql, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param autoGeneratedKeys The auto-generated keys indicator
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int autoGeneratedKeys) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareStatement", sql);
+
+        if (statement != null) {
+            return (PreparedStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareStatement(sql, autoGeneratedKeys);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareStatement", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (PreparedStatement) connection.statementPrepared("prepareStatement", start, sql, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param columnIndexes The column indexes
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int[] columnIndexes) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareStatement", sql);
+
+        if (statement != null) {
+            return (PreparedStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareStatement(sql, columnIndexes);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareStatement", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (PreparedStatement) connection.statementPrepared("prepareStatement", start, sql, statement);
+    }
+
+    /**
+     * Prepare statement, or use the cached statement if the statement has been prepared before.
+     * @param sql The SQL text
+     * @param columnNames The column names
+     * @return The statement
+     * @throws SQLException if the invocation fails
+     */
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final String[] columnNames) throws SQLException {
+
+        java.sql.Statement statement;
+        long start;
+
+        statement = connection.getCachedStatement("prepareStatement", sql);
+
+        if (statement != null) {
+            return (PreparedStatement) statement;
+        }
+
+        start = System.nanoTime();
+
+        try {
+
+            statement = delegate.prepareStatement(sql, columnNames);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.invocationFailed("prepareStatement", start, "statement prepare failed", exception);
+
+            throw exception;
+        }
+
+        return (PreparedStatement) connection.statementPrepared("prepareStatement", start, sql, statement);
+    }
+
+    /**
+     * Delegate invocation of {@code createClob}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Clob createClob() throws SQLException {
+
+        try {
+
+            return delegate.createClob();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code createBlob}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Blob createBlob() throws SQLException {
+
+        try {
+
+            return delegate.createBlob();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code createNClob}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public NClob createNClob() throws SQLException {
+
+        try {
+
+            return delegate.createNClob();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code createSQLXML}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLXML createSQLXML() throws SQLException {
+
+        try {
+
+            return delegate.createSQLXML();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isValid}.
+     * @param timeout The timeout, in seconds
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isValid(
+        final int timeout) throws SQLException {
+
+        try {
+
+            return delegate.isValid(timeout);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClientInfo}.
+     * @param name The name
+     * @param value The value
+     * @throws SQLClientInfoException if the invocation fails
+     */
+    public void setClientInfo(
+        final String name,
+        final String value) throws SQLClientInfoException {
+
+        try {
+
+            delegate.setClientInfo(name, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClientInfo}.
+     * @param properties The properties
+     * @throws SQLClientInfoException if the invocation fails
+     */
+    public void setClientInfo(
+        final Properties properties) throws SQLClientInfoException {
+
+        try {
+
+            delegate.setClientInfo(properties);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getClientInfo}.
+     * @param name The name
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getClientInfo(
+        final String name) throws SQLException {
+
+        try {
+
+            return delegate.getClientInfo(name);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getClientInfo}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Properties getClientInfo() throws SQLException {
+
+        try {
+
+            return delegate.getClientInfo();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code createArrayOf}.
+     * @param typeName The type name
+     * @param elements The elements
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Array createArrayOf(
+        final String typeName,
+        final Object[] elements) throws SQLException {
+
+        try {
+
+            return delegate.createArrayOf(typeName, elements);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code createStruct}.
+     * @param typeName The type name
+     * @param attributes The attributes
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Struct createStruct(
+        final String typeName,
+        final Object[] attributes) throws SQLException {
+
+        try {
+
+            return delegate.createStruct(typeName, attributes);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setSchema}.
+     * @param schema The schema
+     * @throws SQLException if the invocation fails
+     */
+    public void setSchema(
+        final String schema) throws SQLException {
+
+        try {
+
+            delegate.setSchema(schema);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getSchema}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getSchema() throws SQLException {
+
+        try {
+
+            return delegate.getSchema();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code abort}.
+     * @param executor The executor
+     * @throws SQLException if the invocation fails
+     */
+    public void abort(
+        final Executor executor) throws SQLException {
+
+        try {
+
+            delegate.abort(executor);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNetworkTimeout}.
+     * @param executor The executor
+     * @param milliseconds The timeout, in milliseconds
+     * @throws SQLException if the invocation fails
+     */
+    public void setNetworkTimeout(
+        final Executor executor,
+        final int milliseconds) throws SQLException {
+
+        try {
+
+            delegate.setNetworkTimeout(executor, milliseconds);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNetworkTimeout}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getNetworkTimeout() throws SQLException {
+
+        try {
+
+            return delegate.getNetworkTimeout();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code unwrap}.
+     * @param iface The interface
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T unwrap(
+        final Class<T> iface) throws SQLException {
+
+        try {
+
+            return delegate.unwrap(iface);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isWrapperFor}.
+     * @param iface The interface
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isWrapperFor(
+        final Class<?> iface) throws SQLException {
+
+        try {
+
+            return delegate.isWrapperFor(iface);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import com.sun.rowset.CachedRowSetImpl;
+import org.melior.jdbc.util.DispatchTable;
 import org.melior.service.exception.ApplicationException;
 import org.melior.service.exception.ExceptionType;
 import org.melior.util.cache.Cache;
@@ -27,6 +28,17 @@ import org.melior.util.string.StringUtil;
 @SuppressWarnings("restriction")
 public class DatabaseMetaData implements InvocationHandler {
 
+    /**
+     * Kind of handling that a method needs.
+     */
+    private enum Kind {
+        CLOSE,
+        CACHED;
+    }
+
+    private static final DispatchTable<Kind> DISPATCH_TABLE = new DispatchTable<Kind>(java.sql.DatabaseMetaData.class,
+        method -> (method.getName().equals("close") == true) ? Kind.CLOSE : Kind.CACHED);
+
     private Connection connection;
 
     private java.sql.DatabaseMetaData delegate;
@@ -84,23 +96,23 @@ public class DatabaseMetaData implements InvocationHandler {
         final Method method,
         final Object[] args) throws Throwable {
 
-        String methodName;
+        DispatchTable.Entry<Kind> entry;
         String key;
         Object invocationResult;
 
-        methodName = method.getName();
+        entry = DISPATCH_TABLE.get(method);
 
-        if (methodName.equals("close") == true) {
+        if (entry.getKind() == Kind.CLOSE) {
 
             invocationResult = null;
         }
         else {
 
-            key = methodName + "-" + StringUtil.join(args, "-");
+            key = entry.getName() + "-" + StringUtil.join(args, "-");
 
             try {
 
-                invocationResult = cache.get(key, () -> invoke(method, args));
+                invocationResult = cache.get(key, () -> invoke(entry, args));
 
                 if (invocationResult instanceof javax.sql.rowset.CachedRowSet) {
 
@@ -119,13 +131,13 @@ public class DatabaseMetaData implements InvocationHandler {
 
     /**
      * Handle proxy invocation.
-     * @param method The method to invoke
+     * @param entry The dispatch table entry of the method to invoke
      * @param methodArgs The arguments to invoke with
      * @return The result of the invocation
      * @throws InvocationTargetException if the invocation fails
      */
     private Object invoke(
-        final Method method,
+        final DispatchTable.Entry<Kind> entry,
         final Object[] methodArgs) throws InvocationTargetException {
 
         Object invocationResult;
@@ -134,7 +146,7 @@ public class DatabaseMetaData implements InvocationHandler {
 
         try {
 
-            invocationResult = method.invoke(delegate, methodArgs);
+            invocationResult = entry.invoke(delegate, methodArgs);
 
             if (invocationResult instanceof java.sql.ResultSet) {
 
@@ -154,12 +166,6 @@ public class DatabaseMetaData implements InvocationHandler {
             }
 
         }
-        catch (InvocationTargetException exception) {
-
-            connection.captureException(exception.getCause());
-
-            throw exception;
-        }
         catch (Throwable exception) {
 
             connection.captureException(exception);
@@ -0,0 +1,1627 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.core;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Implements a static proxy for a JDBC {@code PreparedStatement} delegate.  The proxy invokes the
+ * delegate directly, without reflection, so that setting parameters neither allocates
+ * nor boxes.
+ * @author Melior
+ * @since 2.3
+ */
+class PreparedStatementProxy extends StatementProxy implements PreparedStatement {
+
+    private PreparedStatement delegate;
+
+    /**
+     * Constructor.
+     * @param statement The statement wrapper
+     * @param connection The connection
+     * @param delegate The statement
+     * @param arguments The buffer in which the arguments of setters are captured, or null if not enabled
+     */
+    PreparedStatementProxy(
+        final Statement statement,
+        final Connection connection,
+        final PreparedStatement delegate,
+        final ArgumentBuffer arguments) {
+
+        super(statement, connection, delegate, arguments);
+
+        this.delegate = delegate;
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.ResultSet executeQuery() throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeQuery");
+
+        try {
+
+            return statement.executed("executeQuery", start, delegate.executeQuery());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeQuery", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int executeUpdate() throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeUpdate");
+
+        try {
+
+            return statement.executed("executeUpdate", start, delegate.executeUpdate());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNull}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void setNull(
+        final int parameterIndex,
+        final int sqlType) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNull", parameterIndex, sqlType);
+        }
+
+        try {
+
+            delegate.setNull(parameterIndex, sqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBoolean}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBoolean(
+        final int parameterIndex,
+        final boolean x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBoolean", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBoolean(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setByte}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setByte(
+        final int parameterIndex,
+        final byte x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setByte", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setByte(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setShort}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setShort(
+        final int parameterIndex,
+        final short x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setShort", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setShort(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setInt}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setInt(
+        final int parameterIndex,
+        final int x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setInt", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setInt(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setLong}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setLong(
+        final int parameterIndex,
+        final long x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setLong", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setLong(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setFloat}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setFloat(
+        final int parameterIndex,
+        final float x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setFloat", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setFloat(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setDouble}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setDouble(
+        final int parameterIndex,
+        final double x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setDouble", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setDouble(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBigDecimal}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBigDecimal(
+        final int parameterIndex,
+        final BigDecimal x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBigDecimal", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBigDecimal(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setString}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setString(
+        final int parameterIndex,
+        final String x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setString", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setString(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBytes}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBytes(
+        final int parameterIndex,
+        final byte[] x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBytes", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBytes(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setDate}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setDate(
+        final int parameterIndex,
+        final Date x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setDate", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setDate(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTime}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setTime(
+        final int parameterIndex,
+        final Time x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTime", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setTime(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTimestamp}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setTimestamp(
+        final int parameterIndex,
+        final Timestamp x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTimestamp", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setTimestamp(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAsciiStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setAsciiStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setAsciiStream(parameterIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setUnicodeStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    @Deprecated
+    public void setUnicodeStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setUnicodeStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setUnicodeStream(parameterIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBinaryStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBinaryStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBinaryStream(parameterIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code clearParameters}.
+     * @throws SQLException if the invocation fails
+     */
+    public void clearParameters() throws SQLException {
+
+        try {
+
+            delegate.clearParameters();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final int targetSqlType) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterIndex, x, targetSqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final int parameterIndex,
+        final Object x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean execute() throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("execute");
+
+        try {
+
+            return statement.executed("execute", start, delegate.execute());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("execute", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code addBatch}.
+     * @throws SQLException if the invocation fails
+     */
+    public void addBatch() throws SQLException {
+
+        try {
+
+            delegate.addBatch();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCharacterStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader,
+        final int length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCharacterStream", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setCharacterStream(parameterIndex, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setRef}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setRef(
+        final int parameterIndex,
+        final Ref x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setRef", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setRef(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBlob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBlob(
+        final int parameterIndex,
+        final Blob x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBlob", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBlob(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setClob(
+        final int parameterIndex,
+        final Clob x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setClob", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setClob(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setArray}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setArray(
+        final int parameterIndex,
+        final Array x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setArray", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setArray(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getMetaData}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public ResultSetMetaData getMetaData() throws SQLException {
+
+        try {
+
+            return delegate.getMetaData();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setDate}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param cal The calendar
+     * @throws SQLException if the invocation fails
+     */
+    public void setDate(
+        final int parameterIndex,
+        final Date x,
+        final Calendar cal) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setDate", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setDate(parameterIndex, x, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTime}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param cal The calendar
+     * @throws SQLException if the invocation fails
+     */
+    public void setTime(
+        final int parameterIndex,
+        final Time x,
+        final Calendar cal) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTime", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setTime(parameterIndex, x, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setTimestamp}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param cal The calendar
+     * @throws SQLException if the invocation fails
+     */
+    public void setTimestamp(
+        final int parameterIndex,
+        final Timestamp x,
+        final Calendar cal) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setTimestamp", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setTimestamp(parameterIndex, x, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNull}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param sqlType The SQL type
+     * @param typeName The type name
+     * @throws SQLException if the invocation fails
+     */
+    public void setNull(
+        final int parameterIndex,
+        final int sqlType,
+        final String typeName) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNull", parameterIndex, sqlType);
+        }
+
+        try {
+
+            delegate.setNull(parameterIndex, sqlType, typeName);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setURL}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setURL(
+        final int parameterIndex,
+        final URL x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setURL", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setURL(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getParameterMetaData}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+
+        try {
+
+            return delegate.getParameterMetaData();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setRowId}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setRowId(
+        final int parameterIndex,
+        final RowId x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setRowId", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setRowId(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNString}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param value The value
+     * @throws SQLException if the invocation fails
+     */
+    public void setNString(
+        final int parameterIndex,
+        final String value) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNString", parameterIndex, value);
+        }
+
+        try {
+
+            delegate.setNString(parameterIndex, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNCharacterStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param value The value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setNCharacterStream(
+        final int parameterIndex,
+        final Reader value,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNCharacterStream", parameterIndex, value);
+        }
+
+        try {
+
+            delegate.setNCharacterStream(parameterIndex, value, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNClob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param value The value
+     * @throws SQLException if the invocation fails
+     */
+    public void setNClob(
+        final int parameterIndex,
+        final NClob value) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNClob", parameterIndex, value);
+        }
+
+        try {
+
+            delegate.setNClob(parameterIndex, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setClob(
+        final int parameterIndex,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setClob", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setClob(parameterIndex, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBlob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param inputStream The input stream
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setBlob(
+        final int parameterIndex,
+        final InputStream inputStream,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBlob", parameterIndex, inputStream);
+        }
+
+        try {
+
+            delegate.setBlob(parameterIndex, inputStream, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNClob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setNClob(
+        final int parameterIndex,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNClob", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setNClob(parameterIndex, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setSQLXML}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param xmlObject The xml object
+     * @throws SQLException if the invocation fails
+     */
+    public void setSQLXML(
+        final int parameterIndex,
+        final SQLXML xmlObject) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setSQLXML", parameterIndex, xmlObject);
+        }
+
+        try {
+
+            delegate.setSQLXML(parameterIndex, xmlObject);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final int targetSqlType,
+        final int scaleOrLength) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAsciiStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setAsciiStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setAsciiStream(parameterIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBinaryStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBinaryStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBinaryStream(parameterIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCharacterStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCharacterStream", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setCharacterStream(parameterIndex, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setAsciiStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setAsciiStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setAsciiStream(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBinaryStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBinaryStream", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setBinaryStream(parameterIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCharacterStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCharacterStream", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setCharacterStream(parameterIndex, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNCharacterStream}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param value The value
+     * @throws SQLException if the invocation fails
+     */
+    public void setNCharacterStream(
+        final int parameterIndex,
+        final Reader value) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNCharacterStream", parameterIndex, value);
+        }
+
+        try {
+
+            delegate.setNCharacterStream(parameterIndex, value);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setClob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void setClob(
+        final int parameterIndex,
+        final Reader reader) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setClob", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setClob(parameterIndex, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setBlob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param inputStream The input stream
+     * @throws SQLException if the invocation fails
+     */
+    public void setBlob(
+        final int parameterIndex,
+        final InputStream inputStream) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setBlob", parameterIndex, inputStream);
+        }
+
+        try {
+
+            delegate.setBlob(parameterIndex, inputStream);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setNClob}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void setNClob(
+        final int parameterIndex,
+        final Reader reader) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setNClob", parameterIndex, reader);
+        }
+
+        try {
+
+            delegate.setNClob(parameterIndex, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final SQLType targetSqlType,
+        final int scaleOrLength) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setObject}, and capture the arguments if enabled.
+     * @param parameterIndex The parameter index
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final SQLType targetSqlType) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setObject", parameterIndex, x);
+        }
+
+        try {
+
+            delegate.setObject(parameterIndex, x, targetSqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long executeLargeUpdate() throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeLargeUpdate");
+
+        try {
+
+            return statement.executed("executeLargeUpdate", start, delegate.executeLargeUpdate());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeLargeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+}
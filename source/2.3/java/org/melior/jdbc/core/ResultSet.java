@@ -7,24 +7,20 @@
         Service Harness
 */
 package org.melior.jdbc.core;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.sql.SQLException;
 import java.util.concurrent.TimeUnit;
+import org.melior.jdbc.metrics.StatementMetrics;
+import org.melior.jdbc.trace.TraceEvent;
 import org.melior.logging.core.Logger;
 import org.melior.logging.core.LoggerFactory;
-import org.melior.service.exception.ApplicationException;
-import org.melior.service.exception.ExceptionType;
-import org.melior.util.time.Timer;
 
 /**
- * Implements a wrapper around a JDBC {@code ResultSet} delegate.  The result set writes
- * JDBC timing details to the logs during the lifetime of the result set.
+ * Implements a wrapper around a JDBC {@code ResultSet} delegate.  The result set traces
+ * JDBC timing details during the lifetime of the result set.
  * @author Melior
  * @since 2.2
  */
-public class ResultSet implements InvocationHandler {
+public class ResultSet {
 
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -34,34 +30,36 @@ public class ResultSet implements InvocationHandler {
 
     private java.sql.ResultSet proxy;
 
-    private Timer timer;
+    private StatementMetrics metrics;
+
+    private long rows;
+
+    private long start;
 
     /**
      * Constructor.
      * @param connection The connection
      * @param resultSet The result set
-     * @throws ApplicationException if an error occurs during the construction
+     * @param metrics The metrics of the statement that produced the result set, or null if not enabled
      */
     public ResultSet(
         final Connection connection,
-        final java.sql.ResultSet resultSet) throws ApplicationException {
+        final java.sql.ResultSet resultSet,
+        final StatementMetrics metrics) {
 
         super();
 
         this.connection = connection;
 
         this.delegate = resultSet;
-
-        try {
 
-            proxy = (java.sql.ResultSet) Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
-                new Class[] {java.sql.ResultSet.class}, this);
-        }
-        catch (Exception exception) {
-            throw new ApplicationException(ExceptionType.LOCAL_APPLICATION, "Failed to create result set proxy: " + exception.getMessage(), exception);
-        }
+        this.metrics = metrics;
 
-        timer = Timer.ofNanos().start();
+        rows = 0;
+
+        proxy = new ResultSetProxy(this, connection, resultSet);
+
+        start = System.nanoTime();
     }
 
     /**
@@ -73,71 +71,48 @@ public class ResultSet implements InvocationHandler {
     }
 
     /**
-     * Handle proxy invocation.
-     * @param object The object on which the method was invoked
-     * @param method The method that is to be invoked
-     * @param args The arguments to invoke the method with
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * Count row that has been read.
+     * @param hasRow true if the cursor has moved to a row, false if there are no more rows
+     * @return true if the cursor has moved to a row, false if there are no more rows
      */
-    public Object invoke(
-        final Object object,
-        final Method method,
-        final Object[] args) throws Throwable {
-
-        String methodName;
-        Object invocationResult;
-        long duration;
-
-        methodName = method.getName();
-
-        if (methodName.startsWith("close") == true) {
-
-            invocationResult = invoke(method, args);
+    boolean rowRead(
+        final boolean hasRow) {
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
-
-            logger.debug(methodName, "Result set processed successfully.  Duration = ", duration, " ms.");
+        if (hasRow == true) {
+            rows++;
         }
-        else {
 
-            invocationResult = invoke(method, args);
-        }
-
-        return invocationResult;
+        return hasRow;
     }
-
+
     /**
-     * Handle proxy invocation.
-     * @param method The method to invoke
-     * @param methodArgs The arguments to invoke with
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * Close result set.  The number of rows that were read is recorded in the metrics of the
+     * statement, if enabled.
+     * @throws SQLException if unable to close the result set
      */
-    private Object invoke(
-        final Method method,
-        final Object[] methodArgs) throws Throwable {
+    void close() throws SQLException {
 
-        Object invocationResult;
+        String methodName = "close";
 
         try {
 
-            invocationResult = method.invoke(delegate, methodArgs);
-        }
-        catch (InvocationTargetException exception) {
-
-            connection.captureException(exception.getCause());
-
-            throw exception.getCause();
+            delegate.close();
         }
-        catch (Throwable exception) {
+        catch (SQLException | RuntimeException exception) {
 
             connection.captureException(exception);
 
             throw exception;
         }
 
-        return invocationResult;
+        if (metrics != null) {
+
+            metrics.recordRows(rows);
+
+            metrics = null;
+        }
+
+        connection.getTracer().trace(logger, methodName, TraceEvent.RESULT_SET_PROCESSED, null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
 }
@@ -0,0 +1,4431 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.core;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Implements a static proxy for a JDBC {@code ResultSet} delegate.  The proxy invokes the
+ * delegate directly, without reflection, so that reading the rows of the result set neither
+ * allocates nor boxes.  Only moving to the next row and closing the result set are routed to
+ * the result set wrapper.
+ * @author Melior
+ * @since 2.3
+ */
+class ResultSetProxy implements java.sql.ResultSet {
+
+    private ResultSet resultSet;
+
+    private Connection connection;
+
+    private java.sql.ResultSet delegate;
+
+    /**
+     * Constructor.
+     * @param resultSet The result set wrapper
+     * @param connection The connection
+     * @param delegate The result set
+     */
+    ResultSetProxy(
+        final ResultSet resultSet,
+        final Connection connection,
+        final java.sql.ResultSet delegate) {
+
+        super();
+
+        this.resultSet = resultSet;
+
+        this.connection = connection;
+
+        this.delegate = delegate;
+    }
+
+    /**
+     * Move to next row, and count the row if there is one.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean next() throws SQLException {
+
+        try {
+
+            return resultSet.rowRead(delegate.next());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Close result set.
+     * @throws SQLException if the invocation fails
+     */
+    public void close() throws SQLException {
+        resultSet.close();
+    }
+
+    /**
+     * Delegate invocation of {@code wasNull}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean wasNull() throws SQLException {
+
+        try {
+
+            return delegate.wasNull();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getString}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getString(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getString(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBoolean}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getBoolean(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBoolean(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getByte}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte getByte(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getByte(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getShort}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public short getShort(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getShort(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getInt}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getInt(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getInt(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getLong}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long getLong(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getLong(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFloat}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public float getFloat(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getFloat(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDouble}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public double getDouble(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getDouble(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param columnIndex The column index
+     * @param scale The scale
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    @Deprecated
+    public BigDecimal getBigDecimal(
+        final int columnIndex,
+        final int scale) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(columnIndex, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBytes}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte[] getBytes(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBytes(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getDate(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getTime(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getAsciiStream}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public InputStream getAsciiStream(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getAsciiStream(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getUnicodeStream}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    @Deprecated
+    public InputStream getUnicodeStream(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getUnicodeStream(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBinaryStream}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public InputStream getBinaryStream(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBinaryStream(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getString}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getString(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getString(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBoolean}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getBoolean(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getBoolean(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getByte}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte getByte(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getByte(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getShort}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public short getShort(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getShort(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getInt}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getInt(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getInt(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getLong}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long getLong(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getLong(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFloat}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public float getFloat(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getFloat(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDouble}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public double getDouble(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getDouble(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param columnLabel The column label
+     * @param scale The scale
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    @Deprecated
+    public BigDecimal getBigDecimal(
+        final String columnLabel,
+        final int scale) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(columnLabel, scale);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBytes}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public byte[] getBytes(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getBytes(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getDate(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getTime(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getAsciiStream}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public InputStream getAsciiStream(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getAsciiStream(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getUnicodeStream}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    @Deprecated
+    public InputStream getUnicodeStream(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getUnicodeStream(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBinaryStream}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public InputStream getBinaryStream(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getBinaryStream(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getWarnings}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLWarning getWarnings() throws SQLException {
+
+        try {
+
+            return delegate.getWarnings();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code clearWarnings}.
+     * @throws SQLException if the invocation fails
+     */
+    public void clearWarnings() throws SQLException {
+
+        try {
+
+            delegate.clearWarnings();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getCursorName}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getCursorName() throws SQLException {
+
+        try {
+
+            return delegate.getCursorName();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getMetaData}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public ResultSetMetaData getMetaData() throws SQLException {
+
+        try {
+
+            return delegate.getMetaData();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getObject(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getObject(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code findColumn}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int findColumn(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.findColumn(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getCharacterStream}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getCharacterStream(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getCharacterStream(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getCharacterStream}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getCharacterStream(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getCharacterStream(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public BigDecimal getBigDecimal(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBigDecimal}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public BigDecimal getBigDecimal(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getBigDecimal(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isBeforeFirst}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isBeforeFirst() throws SQLException {
+
+        try {
+
+            return delegate.isBeforeFirst();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isAfterLast}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isAfterLast() throws SQLException {
+
+        try {
+
+            return delegate.isAfterLast();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isFirst}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isFirst() throws SQLException {
+
+        try {
+
+            return delegate.isFirst();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isLast}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isLast() throws SQLException {
+
+        try {
+
+            return delegate.isLast();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code beforeFirst}.
+     * @throws SQLException if the invocation fails
+     */
+    public void beforeFirst() throws SQLException {
+
+        try {
+
+            delegate.beforeFirst();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code afterLast}.
+     * @throws SQLException if the invocation fails
+     */
+    public void afterLast() throws SQLException {
+
+        try {
+
+            delegate.afterLast();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code first}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean first() throws SQLException {
+
+        try {
+
+            return delegate.first();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code last}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean last() throws SQLException {
+
+        try {
+
+            return delegate.last();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRow}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getRow() throws SQLException {
+
+        try {
+
+            return delegate.getRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code absolute}.
+     * @param row The row number
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean absolute(
+        final int row) throws SQLException {
+
+        try {
+
+            return delegate.absolute(row);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code relative}.
+     * @param rows The number of rows
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean relative(
+        final int rows) throws SQLException {
+
+        try {
+
+            return delegate.relative(rows);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code previous}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean previous() throws SQLException {
+
+        try {
+
+            return delegate.previous();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setFetchDirection}.
+     * @param direction The fetch direction
+     * @throws SQLException if the invocation fails
+     */
+    public void setFetchDirection(
+        final int direction) throws SQLException {
+
+        try {
+
+            delegate.setFetchDirection(direction);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFetchDirection}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getFetchDirection() throws SQLException {
+
+        try {
+
+            return delegate.getFetchDirection();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setFetchSize}.
+     * @param rows The number of rows
+     * @throws SQLException if the invocation fails
+     */
+    public void setFetchSize(
+        final int rows) throws SQLException {
+
+        try {
+
+            delegate.setFetchSize(rows);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFetchSize}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getFetchSize() throws SQLException {
+
+        try {
+
+            return delegate.getFetchSize();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getType}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getType() throws SQLException {
+
+        try {
+
+            return delegate.getType();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getConcurrency}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getConcurrency() throws SQLException {
+
+        try {
+
+            return delegate.getConcurrency();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code rowUpdated}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean rowUpdated() throws SQLException {
+
+        try {
+
+            return delegate.rowUpdated();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code rowInserted}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean rowInserted() throws SQLException {
+
+        try {
+
+            return delegate.rowInserted();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code rowDeleted}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean rowDeleted() throws SQLException {
+
+        try {
+
+            return delegate.rowDeleted();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNull}.
+     * @param columnIndex The column index
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNull(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            delegate.updateNull(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBoolean}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBoolean(
+        final int columnIndex,
+        final boolean x) throws SQLException {
+
+        try {
+
+            delegate.updateBoolean(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateByte}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateByte(
+        final int columnIndex,
+        final byte x) throws SQLException {
+
+        try {
+
+            delegate.updateByte(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateShort}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateShort(
+        final int columnIndex,
+        final short x) throws SQLException {
+
+        try {
+
+            delegate.updateShort(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateInt}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateInt(
+        final int columnIndex,
+        final int x) throws SQLException {
+
+        try {
+
+            delegate.updateInt(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateLong}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateLong(
+        final int columnIndex,
+        final long x) throws SQLException {
+
+        try {
+
+            delegate.updateLong(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateFloat}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateFloat(
+        final int columnIndex,
+        final float x) throws SQLException {
+
+        try {
+
+            delegate.updateFloat(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateDouble}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateDouble(
+        final int columnIndex,
+        final double x) throws SQLException {
+
+        try {
+
+            delegate.updateDouble(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBigDecimal}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBigDecimal(
+        final int columnIndex,
+        final BigDecimal x) throws SQLException {
+
+        try {
+
+            delegate.updateBigDecimal(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateString}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateString(
+        final int columnIndex,
+        final String x) throws SQLException {
+
+        try {
+
+            delegate.updateString(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBytes}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBytes(
+        final int columnIndex,
+        final byte[] x) throws SQLException {
+
+        try {
+
+            delegate.updateBytes(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateDate}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateDate(
+        final int columnIndex,
+        final Date x) throws SQLException {
+
+        try {
+
+            delegate.updateDate(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateTime}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateTime(
+        final int columnIndex,
+        final Time x) throws SQLException {
+
+        try {
+
+            delegate.updateTime(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateTimestamp}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateTimestamp(
+        final int columnIndex,
+        final Timestamp x) throws SQLException {
+
+        try {
+
+            delegate.updateTimestamp(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateAsciiStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateAsciiStream(
+        final int columnIndex,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        try {
+
+            delegate.updateAsciiStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBinaryStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBinaryStream(
+        final int columnIndex,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        try {
+
+            delegate.updateBinaryStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateCharacterStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateCharacterStream(
+        final int columnIndex,
+        final Reader x,
+        final int length) throws SQLException {
+
+        try {
+
+            delegate.updateCharacterStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final int columnIndex,
+        final Object x,
+        final int scaleOrLength) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnIndex, x, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final int columnIndex,
+        final Object x) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNull}.
+     * @param columnLabel The column label
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNull(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            delegate.updateNull(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBoolean}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBoolean(
+        final String columnLabel,
+        final boolean x) throws SQLException {
+
+        try {
+
+            delegate.updateBoolean(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateByte}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateByte(
+        final String columnLabel,
+        final byte x) throws SQLException {
+
+        try {
+
+            delegate.updateByte(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateShort}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateShort(
+        final String columnLabel,
+        final short x) throws SQLException {
+
+        try {
+
+            delegate.updateShort(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateInt}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateInt(
+        final String columnLabel,
+        final int x) throws SQLException {
+
+        try {
+
+            delegate.updateInt(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateLong}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateLong(
+        final String columnLabel,
+        final long x) throws SQLException {
+
+        try {
+
+            delegate.updateLong(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateFloat}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateFloat(
+        final String columnLabel,
+        final float x) throws SQLException {
+
+        try {
+
+            delegate.updateFloat(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateDouble}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateDouble(
+        final String columnLabel,
+        final double x) throws SQLException {
+
+        try {
+
+            delegate.updateDouble(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBigDecimal}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBigDecimal(
+        final String columnLabel,
+        final BigDecimal x) throws SQLException {
+
+        try {
+
+            delegate.updateBigDecimal(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateString}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateString(
+        final String columnLabel,
+        final String x) throws SQLException {
+
+        try {
+
+            delegate.updateString(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBytes}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBytes(
+        final String columnLabel,
+        final byte[] x) throws SQLException {
+
+        try {
+
+            delegate.updateBytes(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateDate}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateDate(
+        final String columnLabel,
+        final Date x) throws SQLException {
+
+        try {
+
+            delegate.updateDate(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateTime}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateTime(
+        final String columnLabel,
+        final Time x) throws SQLException {
+
+        try {
+
+            delegate.updateTime(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateTimestamp}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateTimestamp(
+        final String columnLabel,
+        final Timestamp x) throws SQLException {
+
+        try {
+
+            delegate.updateTimestamp(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateAsciiStream}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateAsciiStream(
+        final String columnLabel,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        try {
+
+            delegate.updateAsciiStream(columnLabel, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBinaryStream}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBinaryStream(
+        final String columnLabel,
+        final InputStream x,
+        final int length) throws SQLException {
+
+        try {
+
+            delegate.updateBinaryStream(columnLabel, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateCharacterStream}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateCharacterStream(
+        final String columnLabel,
+        final Reader reader,
+        final int length) throws SQLException {
+
+        try {
+
+            delegate.updateCharacterStream(columnLabel, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final String columnLabel,
+        final Object x,
+        final int scaleOrLength) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnLabel, x, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final String columnLabel,
+        final Object x) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code insertRow}.
+     * @throws SQLException if the invocation fails
+     */
+    public void insertRow() throws SQLException {
+
+        try {
+
+            delegate.insertRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateRow}.
+     * @throws SQLException if the invocation fails
+     */
+    public void updateRow() throws SQLException {
+
+        try {
+
+            delegate.updateRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code deleteRow}.
+     * @throws SQLException if the invocation fails
+     */
+    public void deleteRow() throws SQLException {
+
+        try {
+
+            delegate.deleteRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code refreshRow}.
+     * @throws SQLException if the invocation fails
+     */
+    public void refreshRow() throws SQLException {
+
+        try {
+
+            delegate.refreshRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code cancelRowUpdates}.
+     * @throws SQLException if the invocation fails
+     */
+    public void cancelRowUpdates() throws SQLException {
+
+        try {
+
+            delegate.cancelRowUpdates();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code moveToInsertRow}.
+     * @throws SQLException if the invocation fails
+     */
+    public void moveToInsertRow() throws SQLException {
+
+        try {
+
+            delegate.moveToInsertRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code moveToCurrentRow}.
+     * @throws SQLException if the invocation fails
+     */
+    public void moveToCurrentRow() throws SQLException {
+
+        try {
+
+            delegate.moveToCurrentRow();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getStatement}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.Statement getStatement() throws SQLException {
+
+        try {
+
+            return delegate.getStatement();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param columnIndex The column index
+     * @param map The type map
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final int columnIndex,
+        final Map<String, Class<?>> map) throws SQLException {
+
+        try {
+
+            return delegate.getObject(columnIndex, map);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRef}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Ref getRef(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getRef(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBlob}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Blob getBlob(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getBlob(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getClob}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Clob getClob(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getClob(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getArray}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Array getArray(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getArray(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param columnLabel The column label
+     * @param map The type map
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Object getObject(
+        final String columnLabel,
+        final Map<String, Class<?>> map) throws SQLException {
+
+        try {
+
+            return delegate.getObject(columnLabel, map);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRef}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Ref getRef(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getRef(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getBlob}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Blob getBlob(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getBlob(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getClob}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Clob getClob(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getClob(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getArray}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Array getArray(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getArray(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param columnIndex The column index
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final int columnIndex,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getDate(columnIndex, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getDate}.
+     * @param columnLabel The column label
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Date getDate(
+        final String columnLabel,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getDate(columnLabel, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param columnIndex The column index
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final int columnIndex,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTime(columnIndex, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTime}.
+     * @param columnLabel The column label
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Time getTime(
+        final String columnLabel,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTime(columnLabel, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param columnIndex The column index
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final int columnIndex,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(columnIndex, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getTimestamp}.
+     * @param columnLabel The column label
+     * @param cal The calendar
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Timestamp getTimestamp(
+        final String columnLabel,
+        final Calendar cal) throws SQLException {
+
+        try {
+
+            return delegate.getTimestamp(columnLabel, cal);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getURL}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public URL getURL(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getURL(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getURL}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public URL getURL(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getURL(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateRef}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateRef(
+        final int columnIndex,
+        final Ref x) throws SQLException {
+
+        try {
+
+            delegate.updateRef(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateRef}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateRef(
+        final String columnLabel,
+        final Ref x) throws SQLException {
+
+        try {
+
+            delegate.updateRef(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBlob}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBlob(
+        final int columnIndex,
+        final Blob x) throws SQLException {
+
+        try {
+
+            delegate.updateBlob(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBlob}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBlob(
+        final String columnLabel,
+        final Blob x) throws SQLException {
+
+        try {
+
+            delegate.updateBlob(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateClob}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateClob(
+        final int columnIndex,
+        final Clob x) throws SQLException {
+
+        try {
+
+            delegate.updateClob(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateClob}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateClob(
+        final String columnLabel,
+        final Clob x) throws SQLException {
+
+        try {
+
+            delegate.updateClob(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateArray}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateArray(
+        final int columnIndex,
+        final Array x) throws SQLException {
+
+        try {
+
+            delegate.updateArray(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateArray}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateArray(
+        final String columnLabel,
+        final Array x) throws SQLException {
+
+        try {
+
+            delegate.updateArray(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRowId}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public RowId getRowId(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getRowId(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getRowId}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public RowId getRowId(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getRowId(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateRowId}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateRowId(
+        final int columnIndex,
+        final RowId x) throws SQLException {
+
+        try {
+
+            delegate.updateRowId(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateRowId}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateRowId(
+        final String columnLabel,
+        final RowId x) throws SQLException {
+
+        try {
+
+            delegate.updateRowId(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getHoldability}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getHoldability() throws SQLException {
+
+        try {
+
+            return delegate.getHoldability();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isClosed}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isClosed() throws SQLException {
+
+        try {
+
+            return delegate.isClosed();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNString}.
+     * @param columnIndex The column index
+     * @param nString The n string
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNString(
+        final int columnIndex,
+        final String nString) throws SQLException {
+
+        try {
+
+            delegate.updateNString(columnIndex, nString);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNString}.
+     * @param columnLabel The column label
+     * @param nString The n string
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNString(
+        final String columnLabel,
+        final String nString) throws SQLException {
+
+        try {
+
+            delegate.updateNString(columnLabel, nString);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNClob}.
+     * @param columnIndex The column index
+     * @param nClob The n clob
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNClob(
+        final int columnIndex,
+        final NClob nClob) throws SQLException {
+
+        try {
+
+            delegate.updateNClob(columnIndex, nClob);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNClob}.
+     * @param columnLabel The column label
+     * @param nClob The n clob
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNClob(
+        final String columnLabel,
+        final NClob nClob) throws SQLException {
+
+        try {
+
+            delegate.updateNClob(columnLabel, nClob);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNClob}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public NClob getNClob(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getNClob(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNClob}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public NClob getNClob(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getNClob(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getSQLXML}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLXML getSQLXML(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getSQLXML(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getSQLXML}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLXML getSQLXML(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getSQLXML(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateSQLXML}.
+     * @param columnIndex The column index
+     * @param xmlObject The xml object
+     * @throws SQLException if the invocation fails
+     */
+    public void updateSQLXML(
+        final int columnIndex,
+        final SQLXML xmlObject) throws SQLException {
+
+        try {
+
+            delegate.updateSQLXML(columnIndex, xmlObject);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateSQLXML}.
+     * @param columnLabel The column label
+     * @param xmlObject The xml object
+     * @throws SQLException if the invocation fails
+     */
+    public void updateSQLXML(
+        final String columnLabel,
+        final SQLXML xmlObject) throws SQLException {
+
+        try {
+
+            delegate.updateSQLXML(columnLabel, xmlObject);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNString}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getNString(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getNString(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNString}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public String getNString(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getNString(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNCharacterStream}.
+     * @param columnIndex The column index
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getNCharacterStream(
+        final int columnIndex) throws SQLException {
+
+        try {
+
+            return delegate.getNCharacterStream(columnIndex);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getNCharacterStream}.
+     * @param columnLabel The column label
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public Reader getNCharacterStream(
+        final String columnLabel) throws SQLException {
+
+        try {
+
+            return delegate.getNCharacterStream(columnLabel);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNCharacterStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNCharacterStream(
+        final int columnIndex,
+        final Reader x,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateNCharacterStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNCharacterStream}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNCharacterStream(
+        final String columnLabel,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateNCharacterStream(columnLabel, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateAsciiStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateAsciiStream(
+        final int columnIndex,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateAsciiStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBinaryStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBinaryStream(
+        final int columnIndex,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateBinaryStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateCharacterStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateCharacterStream(
+        final int columnIndex,
+        final Reader x,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateCharacterStream(columnIndex, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateAsciiStream}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateAsciiStream(
+        final String columnLabel,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateAsciiStream(columnLabel, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBinaryStream}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBinaryStream(
+        final String columnLabel,
+        final InputStream x,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateBinaryStream(columnLabel, x, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateCharacterStream}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateCharacterStream(
+        final String columnLabel,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateCharacterStream(columnLabel, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBlob}.
+     * @param columnIndex The column index
+     * @param inputStream The input stream
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBlob(
+        final int columnIndex,
+        final InputStream inputStream,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateBlob(columnIndex, inputStream, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBlob}.
+     * @param columnLabel The column label
+     * @param inputStream The input stream
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBlob(
+        final String columnLabel,
+        final InputStream inputStream,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateBlob(columnLabel, inputStream, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateClob}.
+     * @param columnIndex The column index
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateClob(
+        final int columnIndex,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateClob(columnIndex, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateClob}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateClob(
+        final String columnLabel,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateClob(columnLabel, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNClob}.
+     * @param columnIndex The column index
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNClob(
+        final int columnIndex,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateNClob(columnIndex, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNClob}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @param length The length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNClob(
+        final String columnLabel,
+        final Reader reader,
+        final long length) throws SQLException {
+
+        try {
+
+            delegate.updateNClob(columnLabel, reader, length);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNCharacterStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNCharacterStream(
+        final int columnIndex,
+        final Reader x) throws SQLException {
+
+        try {
+
+            delegate.updateNCharacterStream(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNCharacterStream}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNCharacterStream(
+        final String columnLabel,
+        final Reader reader) throws SQLException {
+
+        try {
+
+            delegate.updateNCharacterStream(columnLabel, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateAsciiStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateAsciiStream(
+        final int columnIndex,
+        final InputStream x) throws SQLException {
+
+        try {
+
+            delegate.updateAsciiStream(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBinaryStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBinaryStream(
+        final int columnIndex,
+        final InputStream x) throws SQLException {
+
+        try {
+
+            delegate.updateBinaryStream(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateCharacterStream}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateCharacterStream(
+        final int columnIndex,
+        final Reader x) throws SQLException {
+
+        try {
+
+            delegate.updateCharacterStream(columnIndex, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateAsciiStream}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateAsciiStream(
+        final String columnLabel,
+        final InputStream x) throws SQLException {
+
+        try {
+
+            delegate.updateAsciiStream(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBinaryStream}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBinaryStream(
+        final String columnLabel,
+        final InputStream x) throws SQLException {
+
+        try {
+
+            delegate.updateBinaryStream(columnLabel, x);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateCharacterStream}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void updateCharacterStream(
+        final String columnLabel,
+        final Reader reader) throws SQLException {
+
+        try {
+
+            delegate.updateCharacterStream(columnLabel, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBlob}.
+     * @param columnIndex The column index
+     * @param inputStream The input stream
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBlob(
+        final int columnIndex,
+        final InputStream inputStream) throws SQLException {
+
+        try {
+
+            delegate.updateBlob(columnIndex, inputStream);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateBlob}.
+     * @param columnLabel The column label
+     * @param inputStream The input stream
+     * @throws SQLException if the invocation fails
+     */
+    public void updateBlob(
+        final String columnLabel,
+        final InputStream inputStream) throws SQLException {
+
+        try {
+
+            delegate.updateBlob(columnLabel, inputStream);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateClob}.
+     * @param columnIndex The column index
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void updateClob(
+        final int columnIndex,
+        final Reader reader) throws SQLException {
+
+        try {
+
+            delegate.updateClob(columnIndex, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateClob}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void updateClob(
+        final String columnLabel,
+        final Reader reader) throws SQLException {
+
+        try {
+
+            delegate.updateClob(columnLabel, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNClob}.
+     * @param columnIndex The column index
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNClob(
+        final int columnIndex,
+        final Reader reader) throws SQLException {
+
+        try {
+
+            delegate.updateNClob(columnIndex, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateNClob}.
+     * @param columnLabel The column label
+     * @param reader The reader
+     * @throws SQLException if the invocation fails
+     */
+    public void updateNClob(
+        final String columnLabel,
+        final Reader reader) throws SQLException {
+
+        try {
+
+            delegate.updateNClob(columnLabel, reader);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param columnIndex The column index
+     * @param type The type
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T getObject(
+        final int columnIndex,
+        final Class<T> type) throws SQLException {
+
+        try {
+
+            return delegate.getObject(columnIndex, type);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getObject}.
+     * @param columnLabel The column label
+     * @param type The type
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T getObject(
+        final String columnLabel,
+        final Class<T> type) throws SQLException {
+
+        try {
+
+            return delegate.getObject(columnLabel, type);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final int columnIndex,
+        final Object x,
+        final SQLType targetSqlType,
+        final int scaleOrLength) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @param scaleOrLength The scale or length
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final String columnLabel,
+        final Object x,
+        final SQLType targetSqlType,
+        final int scaleOrLength) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnIndex The column index
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final int columnIndex,
+        final Object x,
+        final SQLType targetSqlType) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnIndex, x, targetSqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code updateObject}.
+     * @param columnLabel The column label
+     * @param x The parameter value
+     * @param targetSqlType The target SQL type
+     * @throws SQLException if the invocation fails
+     */
+    public void updateObject(
+        final String columnLabel,
+        final Object x,
+        final SQLType targetSqlType) throws SQLException {
+
+        try {
+
+            delegate.updateObject(columnLabel, x, targetSqlType);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code unwrap}.
+     * @param iface The interface
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T unwrap(
+        final Class<T> iface) throws SQLException {
+
+        try {
+
+            return delegate.unwrap(iface);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isWrapperFor}.
+     * @param iface The interface
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isWrapperFor(
+        final Class<?> iface) throws SQLException {
+
+        try {
+
+            return delegate.isWrapperFor(iface);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@ package org.melior.jdbc.core;
 public enum SQLState {
     DYNAMIC_SQL_ERROR ("07000"),
     CONNECTION_INVALID ("08003"),
+    CONNECTION_REJECTED ("08004"),
     CONNECTION_FAILURE ("08006");
 
     private String value;
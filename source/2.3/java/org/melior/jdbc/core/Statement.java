@@ -7,34 +7,32 @@
         Service Harness
 */
 package org.melior.jdbc.core;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.sql.SQLException;
 import java.util.concurrent.TimeUnit;
 import org.melior.jdbc.datasource.DataSource;
+import org.melior.jdbc.metrics.StatementMetrics;
+import org.melior.jdbc.trace.TraceEvent;
+import org.melior.jdbc.trace.Tracer;
 import org.melior.logging.core.Logger;
 import org.melior.logging.core.LoggerFactory;
-import org.melior.service.exception.ApplicationException;
-import org.melior.service.exception.ExceptionType;
 import org.melior.util.cache.LRUCache;
-import org.melior.util.string.StringUtil;
-import org.melior.util.time.Timer;
 
 /**
- * Implements a wrapper around a JDBC {@code Statement} delegate.  The statement writes
- * JDBC timing details to the logs during the lifetime of the statement.  If a statement
+ * Implements a wrapper around a JDBC {@code Statement} delegate.  The statement traces
+ * JDBC timing details during the lifetime of the statement.  If a statement
  * cache is enabled, then the statement will be pooled, unless the caller has marked
  * the statement as not poolable.
  * @author Melior
  * @since 2.2
  */
-public class Statement implements InvocationHandler {
+public class Statement {
 
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private DataSource dataSource;
 
+    private Tracer tracer;
+
     private Connection connection;
 
     private LRUCache<Object, Statement> statementCache;
@@ -47,8 +45,12 @@ public class Statement implements InvocationHandler {
 
     private java.sql.Statement proxy;
 
-    private StringBuilder arguments;
+    private ArgumentBuffer arguments;
 
+    private StatementMetrics statementMetrics;
+
+    private StatementMetrics metrics;
+
     /**
      * Constructor.
      * @param dataSource The data source
@@ -56,21 +58,20 @@ public class Statement implements InvocationHandler {
      * @param statementCache The statement cache
      * @param statement The statement
      * @param text The statement text
-     * @throws ApplicationException if an error occurs during the construction
      */
     public Statement(
         final DataSource dataSource,
         final Connection connection,
         final LRUCache<Object, Statement> statementCache,
         final java.sql.Statement statement,
-        final String text) throws ApplicationException {
+        final String text) {
 
         super();
 
-        Class proxyInterface;
-
         this.dataSource = dataSource;
 
+        this.tracer = dataSource.getTracer();
+
         this.connection = connection;
 
         this.statementCache = statementCache;
@@ -79,18 +80,17 @@ public class Statement implements InvocationHandler {
 
         this.text = text;
 
-        proxyInterface = (statement instanceof java.sql.CallableStatement) ? java.sql.CallableStatement.class
-            : (statement instanceof java.sql.PreparedStatement) ? java.sql.PreparedStatement.class
-            : java.sql.Statement.class;
-
-        try {
+        arguments = (dataSource.isLogArguments() == true) ? new ArgumentBuffer() : null;
 
-            proxy = (java.sql.Statement) Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
-                new Class[] {proxyInterface}, this);
-        }
-        catch (Exception exception) {
-            throw new ApplicationException(ExceptionType.LOCAL_APPLICATION, "Failed to create statement proxy: " + exception.getMessage(), exception);
-        }
+        statementMetrics = dataSource.getMetricsRegistry().get(text);
+
+        metrics = null;
+
+        proxy = (statement instanceof java.sql.CallableStatement)
+            ? new CallableStatementProxy(this, connection, (java.sql.CallableStatement) statement, arguments)
+            : (statement instanceof java.sql.PreparedStatement)
+            ? new PreparedStatementProxy(this, connection, (java.sql.PreparedStatement) statement, arguments)
+            : new StatementProxy(this, connection, statement, arguments);
 
         cached = false;
     }
@@ -134,203 +134,285 @@ public class Statement implements InvocationHandler {
     }
 
     /**
-     * Handle proxy invocation.
-     * @param object The object on which the method was invoked
-     * @param method The method that is to be invoked
-     * @param args The arguments to invoke the method with
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * Close statement.  The statement is returned to the statement cache if the statement
+     * cache is enabled and the statement is poolable, otherwise the statement is destroyed.
+     * @throws SQLException if unable to determine whether the statement is poolable
      */
-    public Object invoke(
-        final Object object,
-        final Method method,
-        final Object[] args) throws Throwable {
+    void close() throws SQLException {
 
-        String methodName;
-        Object invocationResult;
-        ResultSet resultSet;
+        if (cached == true) {
+            return;
+        }
 
-        methodName = method.getName();
+        if (arguments != null) {
+            arguments.clear();
+        }
 
-        if (methodName.startsWith("set") == true) {
+        if ((statementCache != null)
+            && (statementCache.getCapacity() != 0)
+            && (delegate.isPoolable() == true)) {
 
-            addArguments(methodName, args);
+            statementCache.add(text, this);
+            cached = true;
+        }
+        else {
 
-            invocationResult = invoke(method, args);
+            destroy();
         }
+
+    }
 
-        else if (methodName.startsWith("execute") == true) {
+    /**
+     * Prepare statement for execution.  The request timeout is applied to the statement,
+     * and the arguments are logged.  The execution is measured under the fingerprint of
+     * the prepared SQL text, if any.
+     * @param methodName The method name
+     * @return The time at which the execution starts, in nanoseconds
+     * @throws SQLException if unable to apply the request timeout
+     */
+    long beforeExecute(
+        final String methodName) throws SQLException {
+        return beforeExecute(methodName, statementMetrics);
+    }
 
-            if (dataSource.getRequestTimeout() > 0) {
+    /**
+     * Prepare statement for execution of SQL text.  The execution is measured under the
+     * fingerprint of the SQL text.
+     * @param methodName The method name
+     * @param sql The SQL text
+     * @return The time at which the execution starts, in nanoseconds
+     * @throws SQLException if unable to apply the request timeout
+     */
+    long beforeExecute(
+        final String methodName,
+        final String sql) throws SQLException {
+        return beforeExecute(methodName, dataSource.getMetricsRegistry().get(sql));
+    }
 
-                delegate.setQueryTimeout(dataSource.getRequestTimeout());
-            }
+    /**
+     * Prepare statement for execution.  The request timeout is applied to the statement,
+     * and the arguments are logged.
+     * @param methodName The method name
+     * @param executionMetrics The metrics under which the execution is measured, or null if not enabled
+     * @return The time at which the execution starts, in nanoseconds
+     * @throws SQLException if unable to apply the request timeout
+     */
+    private long beforeExecute(
+        final String methodName,
+        final StatementMetrics executionMetrics) throws SQLException {
 
-            logArguments(methodName);
+        metrics = executionMetrics;
 
-            invocationResult = invokeMeasured(method, methodName, args, "executed successfully", "execution failed");
+        if (dataSource.getRequestTimeout() > 0) {
 
-            connection.setCommitPending((dataSource.isAutoCommit() == false) && (methodName.equals("executeQuery") == false));
+            delegate.setQueryTimeout(dataSource.getRequestTimeout());
+        }
+
+        logArguments(methodName);
 
-            if (invocationResult instanceof java.sql.ResultSet) {
+        return System.nanoTime();
+    }
 
-                resultSet = new ResultSet(connection, (java.sql.ResultSet) invocationResult);
+    /**
+     * Complete execution of statement.  The result set is wrapped.
+     * @param methodName The method name
+     * @param start The time at which the execution started, in nanoseconds
+     * @param resultSet The result set
+     * @return The proxy of the result set
+     */
+    java.sql.ResultSet executed(
+        final String methodName,
+        final long start,
+        final java.sql.ResultSet resultSet) {
 
-                invocationResult = resultSet.getProxy();
-            }
-
-        }
+        executionSucceeded(methodName, start, -1);
 
-        else if (methodName.equals("close") == true) {
+        return (resultSet == null) ? null : new ResultSet(connection, resultSet, metrics).getProxy();
+    }
 
-            if (cached == false) {
+    /**
+     * Complete execution of statement.
+     * @param methodName The method name
+     * @param start The time at which the execution started, in nanoseconds
+     * @param result The result of the execution
+     * @return The result of the execution
+     */
+    boolean executed(
+        final String methodName,
+        final long start,
+        final boolean result) {
 
-                if ((statementCache != null)
-                    && (statementCache.getCapacity() != 0)
-                    && (delegate.isPoolable() == true)) {
+        executionSucceeded(methodName, start, -1);
 
-                    statementCache.add(text, this);
-                    cached = true;
-                }
-                else {
+        return result;
+    }
 
-                    destroy();
-                }
-
-            }
+    /**
+     * Complete execution of statement.
+     * @param methodName The method name
+     * @param start The time at which the execution started, in nanoseconds
+     * @param result The result of the execution
+     * @return The result of the execution
+     */
+    int executed(
+        final String methodName,
+        final long start,
+        final int result) {
 
-            invocationResult = null;
-        }
-        else {
+        executionSucceeded(methodName, start, result);
 
-            invocationResult = invoke(method, args);
-        }
-
-        return invocationResult;
+        return result;
     }
-
+
+    /**
+     * Complete execution of statement.
+     * @param methodName The method name
+     * @param start The time at which the execution started, in nanoseconds
+     * @param result The result of the execution
+     * @return The result of the execution
+     */
+    long executed(
+        final String methodName,
+        final long start,
+        final long result) {
+
+        executionSucceeded(methodName, start, result);
+
+        return result;
+    }
+
     /**
-     * Log method arguments.
+     * Complete execution of statement.
      * @param methodName The method name
-     * @param methodArgs The method arguments
+     * @param start The time at which the execution started, in nanoseconds
+     * @param result The result of the execution
+     * @return The result of the execution
      */
-    private void addArguments(
+    int[] executed(
         final String methodName,
-        final Object[] methodArgs) {
+        final long start,
+        final int[] result) {
 
-        if ((dataSource.isLogArguments() == true) && (methodArgs != null)) {
+        long rows;
 
-            arguments = (arguments == null) ? new StringBuilder() : arguments;
+        rows = 0;
 
-            arguments.append((arguments.length() > 0) ? ", " : "")
-                .append("{").append(methodName.substring(3)).append(",")
-                .append(StringUtil.join(methodArgs, ",")).append("}");
+        for (int i = 0; i < result.length; i++) {
+            rows = rows + Math.max(result[i], 0);
         }
-
+
+        executionSucceeded(methodName, start, rows);
+
+        return result;
     }
-
+
     /**
-     * Log method arguments.
+     * Complete execution of statement.
      * @param methodName The method name
+     * @param start The time at which the execution started, in nanoseconds
+     * @param result The result of the execution
+     * @return The result of the execution
      */
-    private void logArguments(
-        final String methodName) {
+    long[] executed(
+        final String methodName,
+        final long start,
+        final long[] result) {
 
-        if ((dataSource.isLogArguments() == true) && (arguments != null)) {
+        long rows;
 
-            logger.debug(methodName, "arguments = ", arguments.toString());
+        rows = 0;
 
-            arguments.delete(0, arguments.length());
+        for (int i = 0; i < result.length; i++) {
+            rows = rows + Math.max(result[i], 0);
         }
-
+
+        executionSucceeded(methodName, start, rows);
+
+        return result;
     }
-
+
     /**
-     * Handle proxy invocation.
-     * @param method The method to invoke
-     * @param methodArgs The arguments to invoke with
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * Log failed execution of statement and capture the exception.
+     * @param methodName The method name
+     * @param start The time at which the execution started, in nanoseconds
+     * @param exception The exception
      */
-    private Object invoke(
-        final Method method,
-        final Object[] methodArgs) throws Throwable {
+    void executeFailed(
+        final String methodName,
+        final long start,
+        final Throwable exception) {
 
-        Object invocationResult;
-
-        try {
+        long latency;
+        long duration;
+
+        latency = System.nanoTime() - start;
+
+        duration = TimeUnit.NANOSECONDS.toMillis(latency);
+
+        if (metrics != null) {
 
-            invocationResult = method.invoke(delegate, methodArgs);
+            metrics.recordError(latency);
         }
-        catch (InvocationTargetException exception) {
 
-            connection.captureException(exception.getCause());
-
-            throw exception.getCause();
+        if ((arguments != null) && (arguments.isEmpty() == false)) {
+
+            logger.error(methodName, "Statement execution failed.  Duration = ", duration, " ms.  arguments = ", arguments);
+
+            arguments.clear();
         }
-        catch (Throwable exception) {
+        else {
 
-            connection.captureException(exception);
-
-            throw exception;
+            logger.error(methodName, "Statement execution failed.  Duration = ", duration, " ms.");
         }
-
-        return invocationResult;
+
+        connection.captureException(exception);
     }
-
+
     /**
-     * Handle proxy invocation.
-     * @param method The method to invoke
+     * Trace successful execution of statement and record the latency.  The latency and the
+     * number of rows are also recorded in the metrics of the statement, if enabled.
      * @param methodName The method name
-     * @param methodArgs The arguments to invoke with
-     * @param successMessage The message to log on success
-     * @param failureMessage The message to log on failure
-     * @return The result of the invocation
-     * @throws Throwable if the invocation fails
+     * @param start The time at which the execution started, in nanoseconds
+     * @param rows The number of rows affected, or -1 if not known
      */
-    private Object invokeMeasured(
-        final Method method,
+    private void executionSucceeded(
         final String methodName,
-        final Object[] methodArgs,
-        final String successMessage,
-        final String failureMessage) throws Throwable {
+        final long start,
+        final long rows) {
 
-        Timer timer;
-        Object invocationResult;
-        long duration;
+        long latency;
 
-        timer = Timer.ofNanos().start();
-
-        try {
+        latency = System.nanoTime() - start;
 
-            invocationResult = method.invoke(delegate, methodArgs);
+        connection.recordLatency(latency);
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
-
-            logger.debug(methodName, "Statement ", successMessage, ".  Duration = ", duration, " ms.");
+        if (metrics != null) {
+
+            metrics.recordExecution(latency, rows);
         }
-        catch (InvocationTargetException exception) {
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
-
-            logger.error(methodName, "Statement ", failureMessage, ".  Duration = ", duration, " ms.");
+        tracer.trace(logger, methodName, TraceEvent.STATEMENT_EXECUTED, null, TimeUnit.NANOSECONDS.toMillis(latency));
 
-            connection.captureException(exception.getCause());
-
-            throw exception.getCause();
+        if (arguments != null) {
+            arguments.clear();
         }
-        catch (Throwable exception) {
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+        connection.setCommitPending((dataSource.isAutoCommit() == false) && (methodName.equals("executeQuery") == false));
+    }
 
-            logger.error(methodName, "Statement ", failureMessage, ".  Duration = ", duration, " ms.");
+    /**
+     * Log method arguments.  The arguments are passed to the logger unformatted, so that
+     * they are only formatted if the line is written.
+     * @param methodName The method name
+     */
+    private void logArguments(
+        final String methodName) {
 
-            connection.captureException(exception);
-
-            throw exception;
+        if ((arguments != null) && (arguments.isEmpty() == false)) {
+
+            logger.debug(methodName, "arguments = ", arguments);
         }
 
-        return invocationResult;
     }
 
 }
@@ -0,0 +1,1234 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.core;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+
+/**
+ * Implements a static proxy for a JDBC {@code Statement} delegate.  The proxy invokes the
+ * delegate directly, without reflection.  Execution and closing of the statement are routed
+ * to the statement wrapper, and the arguments of setters are captured if enabled.
+ * @author Melior
+ * @since 2.3
+ */
+class StatementProxy implements java.sql.Statement {
+
+    protected Statement statement;
+
+    protected Connection connection;
+
+    protected ArgumentBuffer arguments;
+
+    private java.sql.Statement delegate;
+
+    /**
+     * Constructor.
+     * @param statement The statement wrapper
+     * @param connection The connection
+     * @param delegate The statement
+     * @param arguments The buffer in which the arguments of setters are captured, or null if not enabled
+     */
+    StatementProxy(
+        final Statement statement,
+        final Connection connection,
+        final java.sql.Statement delegate,
+        final ArgumentBuffer arguments) {
+
+        super();
+
+        this.statement = statement;
+
+        this.connection = connection;
+
+        this.delegate = delegate;
+
+        this.arguments = arguments;
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.ResultSet executeQuery(
+        final String sql) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeQuery", sql);
+
+        try {
+
+            return statement.executed("executeQuery", start, delegate.executeQuery(sql));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeQuery", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int executeUpdate(
+        final String sql) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeUpdate", start, delegate.executeUpdate(sql));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Close statement.  The statement is returned to the statement cache if possible.
+     * @throws SQLException if the invocation fails
+     */
+    public void close() throws SQLException {
+        statement.close();
+    }
+
+    /**
+     * Delegate invocation of {@code getMaxFieldSize}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getMaxFieldSize() throws SQLException {
+
+        try {
+
+            return delegate.getMaxFieldSize();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setMaxFieldSize}, and capture the arguments if enabled.
+     * @param max The maximum
+     * @throws SQLException if the invocation fails
+     */
+    public void setMaxFieldSize(
+        final int max) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setMaxFieldSize", max);
+        }
+
+        try {
+
+            delegate.setMaxFieldSize(max);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getMaxRows}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getMaxRows() throws SQLException {
+
+        try {
+
+            return delegate.getMaxRows();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setMaxRows}, and capture the arguments if enabled.
+     * @param max The maximum
+     * @throws SQLException if the invocation fails
+     */
+    public void setMaxRows(
+        final int max) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setMaxRows", max);
+        }
+
+        try {
+
+            delegate.setMaxRows(max);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setEscapeProcessing}, and capture the arguments if enabled.
+     * @param enable The enable indicator
+     * @throws SQLException if the invocation fails
+     */
+    public void setEscapeProcessing(
+        final boolean enable) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setEscapeProcessing", enable);
+        }
+
+        try {
+
+            delegate.setEscapeProcessing(enable);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getQueryTimeout}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getQueryTimeout() throws SQLException {
+
+        try {
+
+            return delegate.getQueryTimeout();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setQueryTimeout}, and capture the arguments if enabled.
+     * @param seconds The timeout, in seconds
+     * @throws SQLException if the invocation fails
+     */
+    public void setQueryTimeout(
+        final int seconds) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setQueryTimeout", seconds);
+        }
+
+        try {
+
+            delegate.setQueryTimeout(seconds);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code cancel}.
+     * @throws SQLException if the invocation fails
+     */
+    public void cancel() throws SQLException {
+
+        try {
+
+            delegate.cancel();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getWarnings}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public SQLWarning getWarnings() throws SQLException {
+
+        try {
+
+            return delegate.getWarnings();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code clearWarnings}.
+     * @throws SQLException if the invocation fails
+     */
+    public void clearWarnings() throws SQLException {
+
+        try {
+
+            delegate.clearWarnings();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setCursorName}, and capture the arguments if enabled.
+     * @param name The name
+     * @throws SQLException if the invocation fails
+     */
+    public void setCursorName(
+        final String name) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setCursorName", name);
+        }
+
+        try {
+
+            delegate.setCursorName(name);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean execute(
+        final String sql) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("execute", sql);
+
+        try {
+
+            return statement.executed("execute", start, delegate.execute(sql));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("execute", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getResultSet}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.ResultSet getResultSet() throws SQLException {
+
+        try {
+
+            return delegate.getResultSet();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getUpdateCount}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getUpdateCount() throws SQLException {
+
+        try {
+
+            return delegate.getUpdateCount();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getMoreResults}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getMoreResults() throws SQLException {
+
+        try {
+
+            return delegate.getMoreResults();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setFetchDirection}, and capture the arguments if enabled.
+     * @param direction The fetch direction
+     * @throws SQLException if the invocation fails
+     */
+    public void setFetchDirection(
+        final int direction) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setFetchDirection", direction);
+        }
+
+        try {
+
+            delegate.setFetchDirection(direction);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFetchDirection}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getFetchDirection() throws SQLException {
+
+        try {
+
+            return delegate.getFetchDirection();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setFetchSize}, and capture the arguments if enabled.
+     * @param rows The number of rows
+     * @throws SQLException if the invocation fails
+     */
+    public void setFetchSize(
+        final int rows) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setFetchSize", rows);
+        }
+
+        try {
+
+            delegate.setFetchSize(rows);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getFetchSize}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getFetchSize() throws SQLException {
+
+        try {
+
+            return delegate.getFetchSize();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getResultSetConcurrency}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getResultSetConcurrency() throws SQLException {
+
+        try {
+
+            return delegate.getResultSetConcurrency();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getResultSetType}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getResultSetType() throws SQLException {
+
+        try {
+
+            return delegate.getResultSetType();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code addBatch}.
+     * @param sql The SQL text
+     * @throws SQLException if the invocation fails
+     */
+    public void addBatch(
+        final String sql) throws SQLException {
+
+        try {
+
+            delegate.addBatch(sql);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code clearBatch}.
+     * @throws SQLException if the invocation fails
+     */
+    public void clearBatch() throws SQLException {
+
+        try {
+
+            delegate.clearBatch();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int[] executeBatch() throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeBatch");
+
+        try {
+
+            return statement.executed("executeBatch", start, delegate.executeBatch());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeBatch", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getConnection}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.Connection getConnection() throws SQLException {
+
+        try {
+
+            return delegate.getConnection();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getMoreResults}.
+     * @param current The current result indicator
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean getMoreResults(
+        final int current) throws SQLException {
+
+        try {
+
+            return delegate.getMoreResults(current);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getGeneratedKeys}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public java.sql.ResultSet getGeneratedKeys() throws SQLException {
+
+        try {
+
+            return delegate.getGeneratedKeys();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param autoGeneratedKeys The auto-generated keys indicator
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int executeUpdate(
+        final String sql,
+        final int autoGeneratedKeys) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeUpdate", start, delegate.executeUpdate(sql, autoGeneratedKeys));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param columnIndexes The column indexes
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int executeUpdate(
+        final String sql,
+        final int[] columnIndexes) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeUpdate", start, delegate.executeUpdate(sql, columnIndexes));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param columnNames The column names
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int executeUpdate(
+        final String sql,
+        final String[] columnNames) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeUpdate", start, delegate.executeUpdate(sql, columnNames));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param autoGeneratedKeys The auto-generated keys indicator
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean execute(
+        final String sql,
+        final int autoGeneratedKeys) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("execute", sql);
+
+        try {
+
+            return statement.executed("execute", start, delegate.execute(sql, autoGeneratedKeys));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("execute", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param columnIndexes The column indexes
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean execute(
+        final String sql,
+        final int[] columnIndexes) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("execute", sql);
+
+        try {
+
+            return statement.executed("execute", start, delegate.execute(sql, columnIndexes));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("execute", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param columnNames The column names
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean execute(
+        final String sql,
+        final String[] columnNames) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("execute", sql);
+
+        try {
+
+            return statement.executed("execute", start, delegate.execute(sql, columnNames));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("execute", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getResultSetHoldability}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public int getResultSetHoldability() throws SQLException {
+
+        try {
+
+            return delegate.getResultSetHoldability();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isClosed}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isClosed() throws SQLException {
+
+        try {
+
+            return delegate.isClosed();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setPoolable}, and capture the arguments if enabled.
+     * @param poolable The poolable indicator
+     * @throws SQLException if the invocation fails
+     */
+    public void setPoolable(
+        final boolean poolable) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setPoolable", poolable);
+        }
+
+        try {
+
+            delegate.setPoolable(poolable);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isPoolable}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isPoolable() throws SQLException {
+
+        try {
+
+            return delegate.isPoolable();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code closeOnCompletion}.
+     * @throws SQLException if the invocation fails
+     */
+    public void closeOnCompletion() throws SQLException {
+
+        try {
+
+            delegate.closeOnCompletion();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isCloseOnCompletion}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isCloseOnCompletion() throws SQLException {
+
+        try {
+
+            return delegate.isCloseOnCompletion();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getLargeUpdateCount}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long getLargeUpdateCount() throws SQLException {
+
+        try {
+
+            return delegate.getLargeUpdateCount();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code setLargeMaxRows}, and capture the arguments if enabled.
+     * @param max The maximum
+     * @throws SQLException if the invocation fails
+     */
+    public void setLargeMaxRows(
+        final long max) throws SQLException {
+
+        if (arguments != null) {
+            arguments.add("setLargeMaxRows", max);
+        }
+
+        try {
+
+            delegate.setLargeMaxRows(max);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code getLargeMaxRows}.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long getLargeMaxRows() throws SQLException {
+
+        try {
+
+            return delegate.getLargeMaxRows();
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long[] executeLargeBatch() throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeLargeBatch");
+
+        try {
+
+            return statement.executed("executeLargeBatch", start, delegate.executeLargeBatch());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeLargeBatch", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long executeLargeUpdate(
+        final String sql) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeLargeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeLargeUpdate", start, delegate.executeLargeUpdate(sql));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeLargeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param autoGeneratedKeys The auto-generated keys indicator
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long executeLargeUpdate(
+        final String sql,
+        final int autoGeneratedKeys) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeLargeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeLargeUpdate", start, delegate.executeLargeUpdate(sql, autoGeneratedKeys));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeLargeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param columnIndexes The column indexes
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long executeLargeUpdate(
+        final String sql,
+        final int[] columnIndexes) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeLargeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeLargeUpdate", start, delegate.executeLargeUpdate(sql, columnIndexes));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeLargeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Execute statement and measure the execution.
+     * @param sql The SQL text
+     * @param columnNames The column names
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public long executeLargeUpdate(
+        final String sql,
+        final String[] columnNames) throws SQLException {
+
+        long start;
+
+        start = statement.beforeExecute("executeLargeUpdate", sql);
+
+        try {
+
+            return statement.executed("executeLargeUpdate", start, delegate.executeLargeUpdate(sql, columnNames));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            statement.executeFailed("executeLargeUpdate", start, exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code unwrap}.
+     * @param iface The interface
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public <T> T unwrap(
+        final Class<T> iface) throws SQLException {
+
+        try {
+
+            return delegate.unwrap(iface);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Delegate invocation of {@code isWrapperFor}.
+     * @param iface The interface
+     * @return The result of the invocation
+     * @throws SQLException if the invocation fails
+     */
+    public boolean isWrapperFor(
+        final Class<?> iface) throws SQLException {
+
+        try {
+
+            return delegate.isWrapperFor(iface);
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            connection.captureException(exception);
+
+            throw exception;
+        }
+
+    }
+
+}
@@ -26,6 +26,7 @@ import java.time.Period;
 import org.melior.component.core.ServiceComponent;
 import org.melior.context.service.ServiceContext;
 import org.melior.jdbc.datasource.DataSource;
+import org.melior.jdbc.datasource.RoutingDataSource;
 import org.melior.jdbc.enhancer.StatementEnhancer;
 import org.melior.jdbc.util.TimeDelta;
 import org.melior.service.exception.ApplicationException;
@@ -64,6 +65,17 @@ public abstract class DataAccessObject extends ServiceComponent {
 
         timeDelta = (dataSource instanceof DataSource) ? ((DataSource) dataSource).getTimeDelta() : null;
     }
+
+    /**
+     * Get connection for read-only work.  If the data source routes read-only work
+     * to replicas, then the connection is to a replica, otherwise the connection is
+     * an ordinary connection from the data source.
+     * @return The connection
+     * @throws SQLException if unable to get a connection
+     */
+    protected Connection getReadOnlyConnection() throws SQLException {
+        return (dataSource instanceof RoutingDataSource) ? ((RoutingDataSource) dataSource).getReadOnlyConnection() : dataSource.getConnection();
+    }
 
     /**
      * Returns the first generated numeric key from the statement.
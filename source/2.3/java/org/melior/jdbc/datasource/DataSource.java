@@ -13,23 +13,37 @@ import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.melior.jdbc.core.SQLState;
 import org.melior.jdbc.enhancer.StatementEnhancer;
+import org.melior.jdbc.metrics.MetricsRegistry;
+import org.melior.jdbc.metrics.StatementSnapshot;
+import org.melior.jdbc.pool.CircuitBreaker;
 import org.melior.jdbc.pool.ConnectionPool;
+import org.melior.jdbc.pool.Priority;
 import org.melior.jdbc.session.SessionController;
+import org.melior.jdbc.trace.TraceEvent;
+import org.melior.jdbc.trace.Tracer;
 import org.melior.logging.core.Logger;
 import org.melior.logging.core.LoggerFactory;
 import org.melior.service.exception.ApplicationException;
+import org.springframework.beans.factory.InitializingBean;
 
 /**
  * Implements a factory for JDBC {@code Connection} objects, for connections to
  * the physical data source that this {@code DataSource} object represents. The
- * data source writes statistics from the underlying connection pool to the logs
- * whenever a {@code Connection} is borrowed from the pool.
+ * data source traces statistics from the underlying connection pool whenever a
+ * {@code Connection} is borrowed from the pool, if tracing is enabled.  When eager start
+ * is enabled, the data source is started as soon as its properties have been set, so that
+ * the connection pool is warmed up however the data source is used.
  * @author Melior
  * @since 2.2
  */
-public class DataSource extends DataSourceConfig implements javax.sql.DataSource {
+public class DataSource extends DataSourceConfig implements javax.sql.DataSource, InitializingBean {
 
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -37,8 +51,12 @@ public class DataSource extends DataSourceConfig implements javax.sql.DataSource
 
     private StatementEnhancer statementEnhancer;
 
-    private ConnectionPool connectionPool;
+    private volatile ConnectionPool connectionPool;
+
+    private Tracer tracer;
 
+    private MetricsRegistry metricsRegistry;
+
     /**
      * Constructor.
      */
@@ -48,7 +66,8 @@ public class DataSource extends DataSourceConfig implements javax.sql.DataSource
     }
 
     /**
-     * Initialize data source.
+     * Initialize data source.  The data source is initialized once, by the first caller,
+     * so that concurrent callers do not create duplicate tracers, registries and pools.
      * @throws SQLException when unable to initialize the data source
      */
     public void initialize() throws SQLException {
@@ -57,6 +76,27 @@ public class DataSource extends DataSourceConfig implements javax.sql.DataSource
             return;
         }
 
+        synchronized (this) {
+
+            if (connectionPool == null) {
+
+                createConnectionPool();
+            }
+
+        }
+
+    }
+
+    /**
+     * Create tracer, metrics registry and connection pool.
+     * @throws SQLException when unable to create the connection pool
+     */
+    private void createConnectionPool() throws SQLException {
+
+        tracer = (tracer == null) ? new Tracer((getTracing() == null) ? isDebugEnabled() : getTracing(), getTraceCapacity()) : tracer;
+
+        metricsRegistry = (metricsRegistry == null) ? new MetricsRegistry(isStatementMetrics(), getStatementMetricsCapacity()) : metricsRegistry;
+
         try {
 
             connectionPool = new ConnectionPool(this);
@@ -66,6 +106,149 @@ public class DataSource extends DataSourceConfig implements javax.sql.DataSource
         }
 
     }
+
+    /**
+     * Check whether debug logging is enabled for any of the components that record trace events.
+     * @return true if debug logging is enabled, false otherwise
+     */
+    private boolean isDebugEnabled() {
+        return (org.slf4j.LoggerFactory.getLogger("org.melior.jdbc").isDebugEnabled() == true)
+            || (org.slf4j.LoggerFactory.getLogger(getClass()).isDebugEnabled() == true)
+            || (org.slf4j.LoggerFactory.getLogger(ConnectionPool.class).isDebugEnabled() == true)
+            || (org.slf4j.LoggerFactory.getLogger(org.melior.jdbc.core.Connection.class).isDebugEnabled() == true)
+            || (org.slf4j.LoggerFactory.getLogger(org.melior.jdbc.core.Statement.class).isDebugEnabled() == true)
+            || (org.slf4j.LoggerFactory.getLogger(org.melior.jdbc.core.ResultSet.class).isDebugEnabled() == true);
+    }
+
+    /**
+     * Start data source if eager start is enabled, once its properties have been set.
+     */
+    public void afterPropertiesSet() {
+
+        if (isEagerStart() == true) {
+
+            start();
+        }
+
+    }
+
+    /**
+     * Start data source.  The connection pool is created and warmed up in the background,
+     * so that the first borrowers do not pay for opening connections.
+     * @return The future that is completed when the connection pool is warm
+     */
+    public CompletableFuture<Void> start() {
+
+        String methodName = "start";
+        CompletableFuture<Void> future;
+
+        try {
+
+            initialize();
+        }
+        catch (SQLException exception) {
+
+            future = new CompletableFuture<Void>();
+
+            future.completeExceptionally(exception);
+
+            return future;
+        }
+
+        logger.debug(methodName, "Connection pool [", connectionPool.getPoolId(), "] is being started.");
+
+        return connectionPool.warmUp();
+    }
+
+    /**
+     * Indicate whether data source is ready.  The data source is ready when the connection
+     * pool has been warmed up.  Use the readiness indicator to report the readiness of the
+     * application, so that traffic is only routed to the application when it is warm.
+     * @return true if the data source is ready, false otherwise
+     */
+    public boolean isReady() {
+        return (connectionPool != null) && (connectionPool.isWarm() == true);
+    }
+
+    /**
+     * Reconfigure data source while it is live.  The changes are applied to a copy of the
+     * configuration, which is validated before it is published and the live connection pool is
+     * reconfigured, so that a change that fails leaves the configuration as it was.  If the URL
+     * has changed, then the connections to the previous URL are drained.  If any of the other
+     * settings with which connections are opened have changed, then the connections are rolled
+     * over to connections that are opened with the new settings, without interrupting the borrowers.
+     * @param changes The changes to apply to the configuration
+     * @throws SQLException when unable to reconfigure the data source
+     */
+    public synchronized void reconfigure(
+        final Consumer<DataSourceConfig> changes) throws SQLException {
+
+        String methodName = "reconfigure";
+        DataSourceConfig previousConfig;
+        DataSourceConfig config;
+        List<Object> previousSettings;
+
+        previousConfig = new DataSourceConfig();
+        previousConfig.copyConfig(this);
+
+        config = new DataSourceConfig();
+        config.copyConfig(this);
+
+        try {
+
+            changes.accept(config);
+
+            config.validate();
+
+            if ((config.getDriverClassName() != null) && (config.getDriverClassName().equals(getDriverClassName()) == false)) {
+
+                registerDriver(config.getDriverClassName());
+            }
+
+        }
+        catch (Exception exception) {
+            throw new SQLException("Failed to reconfigure data source: " + exception.getMessage(), SQLState.DYNAMIC_SQL_ERROR.value(), exception);
+        }
+
+        previousSettings = getConnectionSettings();
+
+        copyConfig(config);
+
+        if (connectionPool == null) {
+            return;
+        }
+
+        logger.debug(methodName, "Connection pool [", connectionPool.getPoolId(), "] is being reconfigured.");
+
+        try {
+
+            connectionPool.reconfigure(getConnectionSettings().equals(previousSettings) == false);
+
+            if (Objects.equals(previousConfig.getUrl(), getUrl()) == false) {
+
+                connectionPool.drainConnections();
+            }
+
+        }
+        catch (Exception exception) {
+
+            copyConfig(previousConfig);
+
+            connectionPool.reconfigure(false);
+
+            throw new SQLException("Failed to reconfigure data source: " + exception.getMessage(), SQLState.DYNAMIC_SQL_ERROR.value(), exception);
+        }
+
+    }
+
+    /**
+     * Get settings with which connections are opened.
+     * @return The settings with which connections are opened
+     */
+    private List<Object> getConnectionSettings() {
+        return Arrays.asList(getUsername(), getPassword(), getCatalog(), getSchema(), isReadOnly(), getTransactionIsolation(),
+            isAutoCommit(), getStatementCacheSize());
+    }
 
     /**
      * Set driver class name.
@@ -111,28 +294,174 @@ public class DataSource extends DataSourceConfig implements javax.sql.DataSource
     public StatementEnhancer getStatementEnhancer() {
         return statementEnhancer;
     }
+
+    /**
+     * Get tracer.
+     * @return The tracer
+     */
+    public Tracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Get metrics registry.
+     * @return The metrics registry
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * Get snapshots of the statements on which the most time was spent.
+     * @param count The maximum number of statements
+     * @return The snapshots, in order of total execution time, from the highest
+     * @throws SQLException when unable to initialize the data source
+     */
+    public List<StatementSnapshot> getTopStatements(
+        final int count) throws SQLException {
+
+        initialize();
+
+        return metricsRegistry.getTopStatements(count);
+    }
+
+    /**
+     * Get connection pool.
+     * @return The connection pool
+     * @throws SQLException when unable to initialize the data source
+     */
+    public ConnectionPool getConnectionPool() throws SQLException {
+
+        initialize();
+
+        return connectionPool;
+    }
 
+    /**
+     * Notify data source that a connection to the database has failed.  The default
+     * implementation does nothing.
+     */
+    public void connectionFailed() {
+    }
+
+    /**
+     * Notify data source that the circuit breaker of the connection pool has changed
+     * state.  The default implementation does nothing.
+     * @param previousState The previous state of the circuit breaker
+     * @param state The new state of the circuit breaker
+     */
+    public void circuitStateChanged(
+        final CircuitBreaker.State previousState,
+        final CircuitBreaker.State state) {
+    }
+
     /**
      * Get connection to database.
      * @return The connection
      * @throws SQLException when unable to get a connection
      */
     public Connection getConnection() throws SQLException {
+        return getConnection(Priority.NORMAL);
+    }
+
+    /**
+     * Get connection to database.
+     * @param priority The priority with which to borrow the connection
+     * @return The connection
+     * @throws SQLException when unable to get a connection
+     */
+    public Connection getConnection(
+        final Priority priority) throws SQLException {
 
         String methodName = "getConnection";
         Connection connection;
 
         initialize();
 
-        logger.debug(methodName, "Connection pool [", connectionPool.getPoolId(), "]: total=", connectionPool.getTotalConnections(),
-            ", active=", connectionPool.getActiveConnections(), ", deficit=", connectionPool.getConnectionDeficit(),
-            ", churn=", connectionPool.getChurnedConnections());
+        if (tracer.isEnabled() == true) {
+
+            traceStatistics(methodName);
+        }
 
-        connection = connectionPool.getConnection();
+        connection = connectionPool.getConnection(priority);
 
         return connection;
     }
+
+    /**
+     * Trace statistics of the connection pool.
+     * @param methodName The method name
+     */
+    private void traceStatistics(
+        final String methodName) {
+
+        long sequence;
+
+        sequence = tracer.claim(logger, methodName, TraceEvent.POOL_STATISTICS, connectionPool.getPoolId());
+
+        if (sequence < 0) {
+            return;
+        }
+
+        tracer.setValue(sequence, 0, connectionPool.getTotalConnections());
+
+        tracer.setValue(sequence, 1, connectionPool.getActiveConnections());
+
+        tracer.setValue(sequence, 2, connectionPool.getConnectionDeficit());
+
+        tracer.setValue(sequence, 3, connectionPool.getPendingConnections());
+
+        tracer.setValue(sequence, 4, connectionPool.getConnectionLimit());
+
+        tracer.setValue(sequence, 5, connectionPool.getChurnedConnections());
+
+        tracer.setValue(sequence, 6, connectionPool.getRejectedBorrowers());
+
+        tracer.setValue(sequence, 7, connectionPool.getRetiringConnections());
+
+        tracer.setValue(sequence, 8, connectionPool.getLeakedConnections());
+
+        tracer.setDetail(sequence, connectionPool.getCircuitState());
+
+        tracer.publish(sequence);
+    }
 
+    /**
+     * Get connection to database without blocking the calling thread.
+     * @return The future connection
+     */
+    public CompletableFuture<Connection> getConnectionAsync() {
+        return getConnectionAsync(Priority.NORMAL);
+    }
+
+    /**
+     * Get connection to database without blocking the calling thread.  The future is
+     * completed exceptionally if no connection becomes available within the connection
+     * timeout.  The connection may be closed from any thread.
+     * @param priority The priority with which to borrow the connection
+     * @return The future connection
+     */
+    public CompletableFuture<Connection> getConnectionAsync(
+        final Priority priority) {
+
+        CompletableFuture<Connection> future;
+
+        try {
+
+            initialize();
+        }
+        catch (SQLException exception) {
+
+            future = new CompletableFuture<Connection>();
+
+            future.completeExceptionally(exception);
+
+            return future;
+        }
+
+        return connectionPool.getConnectionAsync(priority);
+    }
+
     /**
      * Get connection.
      * @param username The user name
@@ -7,6 +7,11 @@
         Service Harness
 */
 package org.melior.jdbc.datasource;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 import org.melior.jdbc.core.TransactionIsolation;
 import org.melior.jdbc.util.TimeDelta;
@@ -43,14 +48,52 @@ public class DataSourceConfig {
 
     private int maximumConnections = Integer.MAX_VALUE;
 
+    private int reservedConnections = 0;
+
+    private boolean adaptiveLimit = false;
+
+    private String budgetName;
+
+    private int budgetLimit = Integer.MAX_VALUE;
+
     private int connectionTimeout = 30;
 
+    private boolean admissionControl = false;
+
+    private int openConcurrency = 1;
+
+    private boolean eagerStart = false;
+
+    private int warmupConnections = 0;
+
+    private int warmupConcurrency = 4;
+
+    private boolean threadAffinity = true;
+
+    private int poolStripes = 1;
+
     private boolean validateOnBorrow = false;
 
     private int validationTimeout = 5;
 
+    private int validationThreshold = 0;
+
+    private String validationQuery;
+
+    private int keepaliveInterval = 0;
+
     private int requestTimeout = 60;
 
+    private int closeTimeout = 5 * 1000;
+
+    private int retireConcurrency = 4;
+
+    private int leakThreshold = 0;
+
+    private int leakSampleInterval = 100;
+
+    private boolean leakReclaim = false;
+
     private int backoffPeriod = 1 * 1000;
 
     private float backoffMultiplier = 1;
@@ -61,14 +104,32 @@ public class DataSourceConfig {
 
     private int maximumLifetime = 0 * 1000;
 
+    private int lifetimeJitter = 10;
+
     private int pruneInterval = 60 * 1000;
 
+    private boolean demandForecast = false;
+
+    private int forecastInterval = 900 * 1000;
+
+    private int forecastLeadTime = 300 * 1000;
+
     private boolean cacheMetadata = false;
 
     private int statementCacheSize = 100;
 
     private boolean logArguments = false;
 
+    private Boolean tracing;
+
+    private int traceCapacity = 8192;
+
+    private boolean statementMetrics = false;
+
+    private int statementMetricsCapacity = 1000;
+
+    private List<String> warmupStatements;
+
     private Properties connectionProperties;
 
     private TimeDelta timeDelta;
@@ -80,6 +141,8 @@ public class DataSourceConfig {
 
         super();
 
+        warmupStatements = new ArrayList<String>();
+
         connectionProperties = new Properties();
 
         timeDelta = new TimeDelta();
@@ -310,6 +373,74 @@ public class DataSourceConfig {
 
         this.maximumConnections = Clamp.clampInt(maximumConnections, 0, Integer.MAX_VALUE);
     }
+
+    /**
+     * Get number of connections that are reserved for borrowers with a high priority.
+     * @return The number of reserved connections
+     */
+    public int getReservedConnections() {
+        return reservedConnections;
+    }
+
+    /**
+     * Set number of connections that are reserved for borrowers with a high priority.
+     * @param reservedConnections The number of reserved connections
+     */
+    public void setReservedConnections(
+        final int reservedConnections) {
+        this.reservedConnections = Clamp.clampInt(reservedConnections, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get adaptive limit indicator.
+     * @return The adaptive limit indicator
+     */
+    public boolean isAdaptiveLimit() {
+        return adaptiveLimit;
+    }
+
+    /**
+     * Set adaptive limit indicator.
+     * @param adaptiveLimit The adaptive limit indicator
+     */
+    public void setAdaptiveLimit(
+        final boolean adaptiveLimit) {
+        this.adaptiveLimit = adaptiveLimit;
+    }
+
+    /**
+     * Get name of connection budget that is shared with other data sources.
+     * @return The name of the connection budget
+     */
+    public String getBudgetName() {
+        return budgetName;
+    }
+
+    /**
+     * Set name of connection budget that is shared with other data sources.
+     * @param budgetName The name of the connection budget
+     */
+    public void setBudgetName(
+        final String budgetName) {
+        this.budgetName = budgetName;
+    }
+
+    /**
+     * Get maximum number of connections that the data sources that share the connection budget may open together.
+     * @return The maximum number of connections
+     */
+    public int getBudgetLimit() {
+        return budgetLimit;
+    }
+
+    /**
+     * Set maximum number of connections that the data sources that share the connection budget may open together.
+     * @param budgetLimit The maximum number of connections
+     */
+    public void setBudgetLimit(
+        final int budgetLimit) {
+        this.budgetLimit = Clamp.clampInt(budgetLimit, 1, Integer.MAX_VALUE);
+    }
 
     /**
      * Get connection timeout.
@@ -327,7 +458,94 @@ public class DataSourceConfig {
         final int connectionTimeout) {
         this.connectionTimeout = Clamp.clampInt(connectionTimeout, 0, Integer.MAX_VALUE);
     }
+
+    /**
+     * Get admission control indicator.
+     * @return The admission control indicator
+     */
+    public boolean isAdmissionControl() {
+        return admissionControl;
+    }
+
+    /**
+     * Set admission control indicator.
+     * @param admissionControl The admission control indicator
+     */
+    public void setAdmissionControl(
+        final boolean admissionControl) {
+        this.admissionControl = admissionControl;
+    }
 
+    /**
+     * Get number of connections that may be opened concurrently.
+     * @return The number of connections that may be opened concurrently
+     */
+    public int getOpenConcurrency() {
+        return openConcurrency;
+    }
+
+    /**
+     * Set number of connections that may be opened concurrently.
+     * @param openConcurrency The number of connections that may be opened concurrently
+     */
+    public void setOpenConcurrency(
+        final int openConcurrency) {
+        this.openConcurrency = Clamp.clampInt(openConcurrency, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get eager start indicator.
+     * @return The eager start indicator
+     */
+    public boolean isEagerStart() {
+        return eagerStart;
+    }
+
+    /**
+     * Set eager start indicator.  When eager start is enabled, the connection pool is created
+     * and warmed up while the application starts, instead of when the first connection is borrowed.
+     * @param eagerStart The eager start indicator
+     */
+    public void setEagerStart(
+        final boolean eagerStart) {
+        this.eagerStart = eagerStart;
+    }
+
+    /**
+     * Get number of connections to open when the connection pool is warmed up.
+     * @return The number of connections to open when the connection pool is warmed up
+     */
+    public int getWarmupConnections() {
+        return (warmupConnections == 0) ? getMinimumConnections() : warmupConnections;
+    }
+
+    /**
+     * Set number of connections to open when the connection pool is warmed up.  Connections
+     * in excess of the minimum number of connections are pruned when they become inactive.
+     * @param warmupConnections The number of connections to open when the connection pool is warmed up
+     */
+    public void setWarmupConnections(
+        final int warmupConnections) {
+        this.warmupConnections = Clamp.clampInt(warmupConnections, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get number of connections that may be opened concurrently when the connection pool is warmed up.
+     * @return The number of connections that may be opened concurrently when the connection pool is warmed up
+     */
+    public int getWarmupConcurrency() {
+        return warmupConcurrency;
+    }
+
+    /**
+     * Set number of connections that may be opened concurrently when the connection pool is warmed up.
+     * @param warmupConcurrency The number of connections that may be opened concurrently when the connection pool is warmed up
+     */
+    public void setWarmupConcurrency(
+        final int warmupConcurrency) {
+        this.warmupConcurrency = Clamp.clampInt(warmupConcurrency, 1, Integer.MAX_VALUE);
+    }
+
     /**
      * Get login timeout.
      * @return The login timeout
@@ -345,6 +563,42 @@ public class DataSourceConfig {
         setConnectionTimeout(loginTimeout);
     }
 
+    /**
+     * Get thread affinity indicator.
+     * @return The thread affinity indicator
+     */
+    public boolean isThreadAffinity() {
+        return threadAffinity;
+    }
+
+    /**
+     * Set thread affinity indicator.  Disable thread affinity when connections are borrowed
+     * from virtual threads, or when a connection may be released from a different thread
+     * than the one that borrowed it.
+     * @param threadAffinity The thread affinity indicator
+     */
+    public void setThreadAffinity(
+        final boolean threadAffinity) {
+        this.threadAffinity = threadAffinity;
+    }
+
+    /**
+     * Get number of stripes in the connection pool.
+     * @return The number of stripes in the connection pool
+     */
+    public int getPoolStripes() {
+        return poolStripes;
+    }
+
+    /**
+     * Set number of stripes in the connection pool.
+     * @param poolStripes The number of stripes in the connection pool
+     */
+    public void setPoolStripes(
+        final int poolStripes) {
+        this.poolStripes = Clamp.clampInt(poolStripes, 1, 1024);
+    }
+
     /**
      * Get validate on borrow indicator.
      * @return The validate on borrow indicator
@@ -379,6 +633,57 @@ public class DataSourceConfig {
         this.validationTimeout = Clamp.clampInt(validationTimeout, 0, Integer.MAX_VALUE);
     }
 
+    /**
+     * Get validation threshold.
+     * @return The validation threshold
+     */
+    public int getValidationThreshold() {
+        return validationThreshold;
+    }
+
+    /**
+     * Set validation threshold.
+     * @param validationThreshold The amount of time that a connection must have been idle before it is validated on borrow, specified in seconds
+     */
+    public void setValidationThreshold(
+        final int validationThreshold) {
+        this.validationThreshold = Clamp.clampInt(validationThreshold * 1000, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get validation query.
+     * @return The validation query
+     */
+    public String getValidationQuery() {
+        return validationQuery;
+    }
+
+    /**
+     * Set validation query.
+     * @param validationQuery The validation query
+     */
+    public void setValidationQuery(
+        final String validationQuery) {
+        this.validationQuery = ((validationQuery == null) || (validationQuery.trim().isEmpty() == true)) ? null : validationQuery;
+    }
+
+    /**
+     * Get keepalive interval.
+     * @return The keepalive interval
+     */
+    public int getKeepaliveInterval() {
+        return keepaliveInterval;
+    }
+
+    /**
+     * Set keepalive interval.
+     * @param keepaliveInterval The keepalive interval, specified in seconds
+     */
+    public void setKeepaliveInterval(
+        final int keepaliveInterval) {
+        this.keepaliveInterval = Clamp.clampInt(keepaliveInterval * 1000, 0, Integer.MAX_VALUE);
+    }
+
     /**
      * Get request timeout.
      * @return The request timeout
@@ -396,6 +701,91 @@ public class DataSourceConfig {
         this.requestTimeout = Clamp.clampInt(requestTimeout, 0, Integer.MAX_VALUE);
     }
 
+    /**
+     * Get close timeout.
+     * @return The close timeout
+     */
+    public int getCloseTimeout() {
+        return closeTimeout;
+    }
+
+    /**
+     * Set close timeout.
+     * @param closeTimeout The close timeout, specified in seconds
+     */
+    public void setCloseTimeout(
+        final int closeTimeout) {
+        this.closeTimeout = Clamp.clampInt(closeTimeout * 1000, 1000, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get number of connections that may be retired concurrently.
+     * @return The number of connections that may be retired concurrently
+     */
+    public int getRetireConcurrency() {
+        return retireConcurrency;
+    }
+
+    /**
+     * Set number of connections that may be retired concurrently.
+     * @param retireConcurrency The number of connections that may be retired concurrently
+     */
+    public void setRetireConcurrency(
+        final int retireConcurrency) {
+        this.retireConcurrency = Clamp.clampInt(retireConcurrency, 1, 64);
+    }
+
+    /**
+     * Get leak threshold.
+     * @return The leak threshold
+     */
+    public int getLeakThreshold() {
+        return leakThreshold;
+    }
+
+    /**
+     * Set leak threshold.
+     * @param leakThreshold The amount of time that a connection may be held before it is reported as leaked, specified in seconds
+     */
+    public void setLeakThreshold(
+        final int leakThreshold) {
+        this.leakThreshold = Clamp.clampInt(leakThreshold * 1000, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get leak sample interval.
+     * @return The leak sample interval
+     */
+    public int getLeakSampleInterval() {
+        return leakSampleInterval;
+    }
+
+    /**
+     * Set leak sample interval.
+     * @param leakSampleInterval The number of borrows per borrow whose stack trace is sampled
+     */
+    public void setLeakSampleInterval(
+        final int leakSampleInterval) {
+        this.leakSampleInterval = Clamp.clampInt(leakSampleInterval, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get leak reclaim indicator.
+     * @return The leak reclaim indicator
+     */
+    public boolean isLeakReclaim() {
+        return leakReclaim;
+    }
+
+    /**
+     * Set leak reclaim indicator.
+     * @param leakReclaim The leak reclaim indicator
+     */
+    public void setLeakReclaim(
+        final boolean leakReclaim) {
+        this.leakReclaim = leakReclaim;
+    }
+
     /**
      * Get backoff period.
      * @return The backoff period
@@ -481,6 +871,23 @@ public class DataSourceConfig {
         this.maximumLifetime = Clamp.clampInt(maximumLifetime * 1000, 0, Integer.MAX_VALUE);
     }
 
+    /**
+     * Get connection lifetime jitter.
+     * @return The connection lifetime jitter
+     */
+    public int getLifetimeJitter() {
+        return lifetimeJitter;
+    }
+
+    /**
+     * Set connection lifetime jitter.
+     * @param lifetimeJitter The connection lifetime jitter, specified as a percentage of the maximum connection lifetime
+     */
+    public void setLifetimeJitter(
+        final int lifetimeJitter) {
+        this.lifetimeJitter = Clamp.clampInt(lifetimeJitter, 0, 50);
+    }
+
     /**
      * Get connection prune interval.
      * @return The connection prune interval
@@ -498,6 +905,57 @@ public class DataSourceConfig {
         this.pruneInterval = Clamp.clampInt(pruneInterval * 1000, 0, Integer.MAX_VALUE);
     }
 
+    /**
+     * Get demand forecast indicator.
+     * @return The demand forecast indicator
+     */
+    public boolean isDemandForecast() {
+        return demandForecast;
+    }
+
+    /**
+     * Set demand forecast indicator.
+     * @param demandForecast The demand forecast indicator
+     */
+    public void setDemandForecast(
+        final boolean demandForecast) {
+        this.demandForecast = demandForecast;
+    }
+
+    /**
+     * Get demand forecast interval.
+     * @return The demand forecast interval
+     */
+    public int getForecastInterval() {
+        return forecastInterval;
+    }
+
+    /**
+     * Set demand forecast interval.
+     * @param forecastInterval The demand forecast interval, specified in seconds
+     */
+    public void setForecastInterval(
+        final int forecastInterval) {
+        this.forecastInterval = Clamp.clampInt(forecastInterval * 1000, 60 * 1000, 24 * 60 * 60 * 1000);
+    }
+
+    /**
+     * Get demand forecast lead time.
+     * @return The demand forecast lead time
+     */
+    public int getForecastLeadTime() {
+        return forecastLeadTime;
+    }
+
+    /**
+     * Set demand forecast lead time.
+     * @param forecastLeadTime The demand forecast lead time, specified in seconds
+     */
+    public void setForecastLeadTime(
+        final int forecastLeadTime) {
+        this.forecastLeadTime = Clamp.clampInt(forecastLeadTime * 1000, 0, 24 * 60 * 60 * 1000);
+    }
+
     /**
      * Get cache metadata indicator.
      * @return The cache metadata indicator
@@ -549,6 +1007,100 @@ public class DataSourceConfig {
         this.logArguments = logArguments;
     }
 
+    /**
+     * Get tracing indicator.
+     * @return The tracing indicator, or null if tracing follows the debug level of the logs
+     */
+    public Boolean getTracing() {
+        return tracing;
+    }
+
+    /**
+     * Set tracing indicator.  When tracing is enabled, the detailed trace of borrowing
+     * connections and executing statements is written to the logs by a background thread.
+     * When the indicator is not set, tracing is enabled if debug logging is enabled, as the
+     * detailed trace used to be written whenever debug logging was enabled.  The indicator
+     * is read once, when the data source is initialized.
+     * @param tracing The tracing indicator
+     */
+    public void setTracing(
+        final Boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    /**
+     * Get number of trace events that may be buffered.
+     * @return The number of trace events that may be buffered
+     */
+    public int getTraceCapacity() {
+        return traceCapacity;
+    }
+
+    /**
+     * Set number of trace events that may be buffered.  Trace events that are recorded while
+     * the buffer is full are dropped.
+     * @param traceCapacity The number of trace events that may be buffered
+     */
+    public void setTraceCapacity(
+        final int traceCapacity) {
+        this.traceCapacity = Clamp.clampInt(traceCapacity, 2, 1 << 20);
+    }
+
+    /**
+     * Get statement metrics indicator.
+     * @return The statement metrics indicator
+     */
+    public boolean isStatementMetrics() {
+        return statementMetrics;
+    }
+
+    /**
+     * Set statement metrics indicator.  When statement metrics are enabled, the latency, rows
+     * and errors of the statements are measured for each statement fingerprint.  The indicator
+     * is read once, when the data source is initialized.
+     * @param statementMetrics The statement metrics indicator
+     */
+    public void setStatementMetrics(
+        final boolean statementMetrics) {
+        this.statementMetrics = statementMetrics;
+    }
+
+    /**
+     * Get maximum number of statement fingerprints to measure.
+     * @return The maximum number of statement fingerprints to measure
+     */
+    public int getStatementMetricsCapacity() {
+        return statementMetricsCapacity;
+    }
+
+    /**
+     * Set maximum number of statement fingerprints to measure.  Statements with new fingerprints
+     * are measured together once the maximum is reached.
+     * @param statementMetricsCapacity The maximum number of statement fingerprints to measure
+     */
+    public void setStatementMetricsCapacity(
+        final int statementMetricsCapacity) {
+        this.statementMetricsCapacity = Clamp.clampInt(statementMetricsCapacity, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get statements to prepare on each new connection.
+     * @return The statements to prepare on each new connection
+     */
+    public List<String> getWarmupStatements() {
+        return warmupStatements;
+    }
+
+    /**
+     * Set statements to prepare on each new connection.  The prepared statements are kept
+     * in the statement cache, so that the first borrowers do not pay for preparing them.
+     * @param warmupStatements The statements to prepare on each new connection
+     */
+    public void setWarmupStatements(
+        final List<String> warmupStatements) {
+        this.warmupStatements = (warmupStatements == null) ? new ArrayList<String>() : new ArrayList<String>(warmupStatements);
+    }
+
     /**
      * Get connection properties.  The connection properties consist of the username and password,
      * and any other connection properties derived from the data source.
@@ -558,6 +1110,182 @@ public class DataSourceConfig {
         return connectionProperties;
     }
 
+    /**
+     * Check that the configuration parameters are consistent with each other.
+     * @throws ApplicationException if the configuration parameters are inconsistent
+     */
+    public void validate() throws ApplicationException {
+
+        if ((maximumConnections > 0) && (minimumConnections > maximumConnections)) {
+            throw new ApplicationException(ExceptionType.LOCAL_APPLICATION, "Minimum number of connections may not be more than maximum.");
+        }
+
+        if ((maximumConnections > 0) && (reservedConnections > maximumConnections)) {
+            throw new ApplicationException(ExceptionType.LOCAL_APPLICATION, "Number of reserved connections may not be more than maximum.");
+        }
+
+    }
+
+    /**
+     * Copy configuration parameters from another configuration.  The time delta is shared,
+     * as it describes the database rather than the configuration.
+     * @param config The configuration to copy from
+     */
+    protected void copyConfig(
+        final DataSourceConfig config) {
+
+        driverClassName = config.driverClassName;
+
+        url = config.url;
+
+        username = config.username;
+
+        password = config.password;
+
+        catalog = config.catalog;
+
+        schema = config.schema;
+
+        readOnly = config.readOnly;
+
+        transactionIsolation = config.transactionIsolation;
+
+        autoCommit = config.autoCommit;
+
+        minimumConnections = config.minimumConnections;
+
+        maximumConnections = config.maximumConnections;
+
+        reservedConnections = config.reservedConnections;
+
+        adaptiveLimit = config.adaptiveLimit;
+
+        budgetName = config.budgetName;
+
+        budgetLimit = config.budgetLimit;
+
+        connectionTimeout = config.connectionTimeout;
+
+        admissionControl = config.admissionControl;
+
+        openConcurrency = config.openConcurrency;
+
+        eagerStart = config.eagerStart;
+
+        warmupConnections = config.warmupConnections;
+
+        warmupConcurrency = config.warmupConcurrency;
+
+        threadAffinity = config.threadAffinity;
+
+        poolStripes = config.poolStripes;
+
+        validateOnBorrow = config.validateOnBorrow;
+
+        validationTimeout = config.validationTimeout;
+
+        validationThreshold = config.validationThreshold;
+
+        validationQuery = config.validationQuery;
+
+        keepaliveInterval = config.keepaliveInterval;
+
+        requestTimeout = config.requestTimeout;
+
+        closeTimeout = config.closeTimeout;
+
+        retireConcurrency = config.retireConcurrency;
+
+        leakThreshold = config.leakThreshold;
+
+        leakSampleInterval = config.leakSampleInterval;
+
+        leakReclaim = config.leakReclaim;
+
+        backoffPeriod = config.backoffPeriod;
+
+        backoffMultiplier = config.backoffMultiplier;
+
+        backoffLimit = config.backoffLimit;
+
+        inactivityTimeout = config.inactivityTimeout;
+
+        maximumLifetime = config.maximumLifetime;
+
+        lifetimeJitter = config.lifetimeJitter;
+
+        pruneInterval = config.pruneInterval;
+
+        demandForecast = config.demandForecast;
+
+        forecastInterval = config.forecastInterval;
+
+        forecastLeadTime = config.forecastLeadTime;
+
+        cacheMetadata = config.cacheMetadata;
+
+        statementCacheSize = config.statementCacheSize;
+
+        logArguments = config.logArguments;
+
+        tracing = config.tracing;
+
+        traceCapacity = config.traceCapacity;
+
+        statementMetrics = config.statementMetrics;
+
+        statementMetricsCapacity = config.statementMetricsCapacity;
+
+        warmupStatements = new ArrayList<String>(config.warmupStatements);
+
+        connectionProperties = (Properties) config.connectionProperties.clone();
+
+        timeDelta = config.timeDelta;
+    }
+
+    /**
+     * Inherit configuration parameters from another configuration.  Each parameter that still
+     * has its default value is taken from the other configuration, while each parameter that
+     * has been set is kept, so that a nested configuration only specifies where it differs.
+     * The connection properties are merged, and the time delta is not inherited, as it
+     * describes the database rather than the configuration.
+     * @param config The configuration to inherit from
+     */
+    protected void inheritConfig(
+        final DataSourceConfig config) {
+
+        DataSourceConfig defaults;
+        Object value;
+        Properties properties;
+
+        defaults = new DataSourceConfig();
+
+        try {
+
+            for (Field field : DataSourceConfig.class.getDeclaredFields()) {
+
+                if ((Modifier.isStatic(field.getModifiers()) == true) || (field.getType() == Properties.class)
+                    || (field.getType() == TimeDelta.class) || (Objects.equals(field.get(this), field.get(defaults)) == false)) {
+                    continue;
+                }
+
+                value = field.get(config);
+
+                field.set(this, (value instanceof List) ? new ArrayList<Object>((List<?>) value) : value);
+            }
+
+        }
+        catch (IllegalAccessException exception) {
+            throw new RuntimeException("Failed to inherit configuration: " + exception.getMessage(), exception);
+        }
+
+        properties = (Properties) config.connectionProperties.clone();
+
+        properties.putAll(connectionProperties);
+
+        connectionProperties = properties;
+    }
+
     /**
      * Get time delta.
      * @return The time delta
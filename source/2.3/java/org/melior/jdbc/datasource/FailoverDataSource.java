@@ -0,0 +1,195 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.datasource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.melior.util.thread.DaemonThread;
+
+/**
+ * Implements a {@code DataSource} that fails over between an ordered list of URLs.
+ * When a connection to the current URL fails, all the URLs are probed in parallel,
+ * and the connection pool is switched to the first URL in the list that is healthy.
+ * The probes are bounded by the validation timeout, so that a URL that hangs rather
+ * than refusing connections does not hold up the failover to a URL that is healthy.
+ * Available connections to the previous URL are retired immediately, and active
+ * connections to the previous URL are retired when they are released.
+ * @author Melior
+ * @since 2.3
+ */
+public class FailoverDataSource extends DataSource {
+
+    private List<String> urls;
+
+    private AtomicBoolean probing;
+
+    private volatile long lastProbeTime;
+
+    private Executor executor;
+
+    /**
+     * Constructor.
+     */
+    public FailoverDataSource() {
+
+        super();
+
+        urls = new ArrayList<String>();
+
+        probing = new AtomicBoolean(false);
+
+        lastProbeTime = 0;
+
+        executor = command -> DaemonThread.create(command);
+    }
+
+    /**
+     * Get URLs.
+     * @return The URLs, in order of preference
+     */
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    /**
+     * Set URLs.
+     * @param urls The URLs, in order of preference
+     */
+    public void setUrls(
+        final List<String> urls) {
+
+        this.urls = (urls == null) ? new ArrayList<String>() : new ArrayList<String>(urls);
+
+        if ((getUrl() == null) && (this.urls.isEmpty() == false)) {
+
+            setUrl(this.urls.get(0));
+        }
+
+    }
+
+    /**
+     * Notify data source that a connection to the database has failed.  The URLs are
+     * probed in the background, unless they are already being probed, or unless they
+     * were probed less than a validation timeout ago.
+     */
+    public void connectionFailed() {
+
+        if ((urls.size() < 2) || (System.currentTimeMillis() - lastProbeTime < getValidationTimeout() * 1000L)
+            || (probing.compareAndSet(false, true) == false)) {
+            return;
+        }
+
+        DaemonThread.create(() -> failover());
+    }
+
+    /**
+     * Probe URLs in parallel and switch to the first URL that is healthy.  The probes share
+     * a deadline of one validation timeout, and a URL is chosen once its probe succeeds and
+     * the probes of all the URLs that are preferred to it have failed or timed out.
+     */
+    private void failover() {
+
+        String methodName = "failover";
+        List<CompletableFuture<Boolean>> probes;
+        String previousUrl;
+        String healthyUrl;
+        long deadline;
+
+        try {
+
+            probes = new ArrayList<CompletableFuture<Boolean>>();
+
+            for (String url : urls) {
+                probes.add(CompletableFuture.supplyAsync(() -> probe(url), executor));
+            }
+
+            deadline = System.currentTimeMillis() + (Math.max(getValidationTimeout(), 1) * 1000L);
+
+            healthyUrl = null;
+
+            for (int i = 0; (i < probes.size()) && (healthyUrl == null); i++) {
+
+                try {
+
+                    if (probes.get(i).get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS) == true) {
+
+                        healthyUrl = urls.get(i);
+                    }
+
+                }
+                catch (Exception exception) {
+                }
+
+            }
+
+            previousUrl = getUrl();
+
+            if (healthyUrl == null) {
+                logger.warn(methodName, "No healthy URL found.  Remaining on URL ", previousUrl, ".");
+            }
+            else if (healthyUrl.equals(previousUrl) == false) {
+                logger.warn(methodName, "Failing over from URL ", previousUrl, " to URL ", healthyUrl, ".");
+
+                setUrl(healthyUrl);
+
+                getConnectionPool().drainConnections();
+            }
+
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Failed to fail over: ", exception.getMessage(), exception);
+        }
+        finally {
+
+            lastProbeTime = System.currentTimeMillis();
+
+            probing.set(false);
+        }
+
+    }
+
+    /**
+     * Probe URL.
+     * @param url The URL
+     * @return true if a connection to the URL could be opened and validated, false otherwise
+     */
+    private boolean probe(
+        final String url) {
+
+        String methodName = "probe";
+        Connection connection;
+
+        try {
+
+            connection = DriverManager.getConnection(url, getConnectionProperties());
+
+            try {
+
+                return connection.isValid(getValidationTimeout());
+            }
+            finally {
+
+                connection.close();
+            }
+
+        }
+        catch (Exception exception) {
+            logger.debug(methodName, "URL ", url, " is not healthy: ", exception.getMessage());
+
+            return false;
+        }
+
+    }
+
+}
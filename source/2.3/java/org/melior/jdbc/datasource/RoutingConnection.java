@@ -0,0 +1,171 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.datasource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import org.melior.jdbc.core.SQLState;
+import org.melior.jdbc.pool.Priority;
+import org.melior.jdbc.util.DispatchTable;
+import org.melior.service.exception.ApplicationException;
+import org.melior.service.exception.ExceptionType;
+
+/**
+ * Implements a JDBC {@code Connection} that is only bound to a physical connection
+ * when it is first used.  The connection is bound to a connection to a replica if it
+ * has been marked as read-only by then, otherwise it is bound to a connection to the
+ * primary database.  The methods of {@code Object} are handled by the proxy itself, so
+ * that they never bind the connection.
+ * @author Melior
+ * @since 2.3
+ */
+public class RoutingConnection implements InvocationHandler {
+
+    /**
+     * Kind of handling that a method needs before the connection is bound.
+     */
+    private enum Kind {
+        SET_READ_ONLY,
+        IS_READ_ONLY,
+        CLOSE,
+        IS_CLOSED,
+        EQUALS,
+        HASH_CODE,
+        TO_STRING,
+        DELEGATE;
+    }
+
+    private static final DispatchTable<Kind> DISPATCH_TABLE = new DispatchTable<Kind>(java.sql.Connection.class,
+        method -> (method.getName().equals("setReadOnly") == true) ? Kind.SET_READ_ONLY
+            : (method.getName().equals("isReadOnly") == true) ? Kind.IS_READ_ONLY
+            : (method.getName().equals("close") == true) ? Kind.CLOSE
+            : (method.getName().equals("isClosed") == true) ? Kind.IS_CLOSED
+            : ((method.getDeclaringClass() == Object.class) && (method.getName().equals("equals") == true)) ? Kind.EQUALS
+            : ((method.getDeclaringClass() == Object.class) && (method.getName().equals("hashCode") == true)) ? Kind.HASH_CODE
+            : ((method.getDeclaringClass() == Object.class) && (method.getName().equals("toString") == true)) ? Kind.TO_STRING
+            : Kind.DELEGATE);
+
+    private RoutingDataSource dataSource;
+
+    private Priority priority;
+
+    private boolean readOnly;
+
+    private boolean closed;
+
+    private java.sql.Connection delegate;
+
+    private java.sql.Connection proxy;
+
+    /**
+     * Constructor.
+     * @param dataSource The routing data source
+     * @param priority The priority with which to borrow the physical connection
+     * @throws ApplicationException if an error occurs during the construction
+     */
+    public RoutingConnection(
+        final RoutingDataSource dataSource,
+        final Priority priority) throws ApplicationException {
+
+        super();
+
+        this.dataSource = dataSource;
+
+        this.priority = priority;
+
+        readOnly = dataSource.isReadOnly();
+
+        closed = false;
+
+        delegate = null;
+
+        try {
+
+            proxy = (java.sql.Connection) Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
+                new Class[] {java.sql.Connection.class}, this);
+        }
+        catch (Exception exception) {
+            throw new ApplicationException(ExceptionType.LOCAL_APPLICATION, "Failed to create routing connection proxy: " + exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Get proxy.
+     * @return The proxy
+     */
+    java.sql.Connection getProxy() {
+        return proxy;
+    }
+
+    /**
+     * Handle proxy invocation.
+     * @param object The object on which the method was invoked
+     * @param method The method to invoke
+     * @param args The arguments to invoke with
+     * @return The result of the invocation
+     * @throws Throwable if the invocation fails
+     */
+    public Object invoke(
+        final Object object,
+        final Method method,
+        final Object[] args) throws Throwable {
+
+        DispatchTable.Entry<Kind> entry;
+
+        entry = DISPATCH_TABLE.get(method);
+
+        if (entry.getKind() == Kind.EQUALS) {
+            return object == args[0];
+        }
+
+        else if (entry.getKind() == Kind.HASH_CODE) {
+            return System.identityHashCode(object);
+        }
+
+        else if (entry.getKind() == Kind.TO_STRING) {
+            return "RoutingConnection@" + Integer.toHexString(System.identityHashCode(object)) + ((delegate == null) ? " (unbound)" : " (" + delegate + ")");
+        }
+
+        if (delegate == null) {
+
+            if (entry.getKind() == Kind.SET_READ_ONLY) {
+
+                readOnly = (Boolean) args[0];
+
+                return null;
+            }
+
+            else if (entry.getKind() == Kind.IS_READ_ONLY) {
+                return readOnly;
+            }
+
+            else if (entry.getKind() == Kind.CLOSE) {
+
+                closed = true;
+
+                return null;
+            }
+
+            else if (entry.getKind() == Kind.IS_CLOSED) {
+                return closed;
+            }
+
+            if (closed == true) {
+                throw new SQLException("Connection has already been released.", SQLState.CONNECTION_INVALID.value());
+            }
+
+            delegate = (readOnly == true) ? dataSource.getReadOnlyConnection(priority) : dataSource.getPrimaryConnection(priority);
+        }
+
+        return entry.invoke(delegate, args);
+    }
+
+}
@@ -0,0 +1,410 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.datasource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.melior.jdbc.pool.ConnectionPool;
+import org.melior.jdbc.pool.Priority;
+import org.melior.service.exception.ApplicationException;
+
+/**
+ * Implements a {@code DataSource} that routes read-only work to replicas of the
+ * primary database, and all other work to the primary database.  The primary
+ * database is configured on the data source itself, and each replica is configured
+ * as a nested data source with its own connection pool.  Each replica inherits the
+ * configuration of the primary database, such as the credentials and the pool settings,
+ * and only needs to specify where it differs, such as the URL.  Changes to the
+ * configuration of the primary database are propagated to the replicas.
+ * <p>
+ * The data source hands out connections that are only bound to a physical connection
+ * when they are first used, so that work is routed to a replica when the caller marks
+ * the connection as read-only with {@code setReadOnly(true)} before using it.  Work
+ * may also be routed to a replica explicitly with {@code getReadOnlyConnection()}.
+ * Replicas are balanced by picking the replica with the fewest active connections.
+ * @author Melior
+ * @since 2.3
+ */
+public class RoutingDataSource extends DataSource {
+
+    private List<DataSource> replicas;
+
+    private List<DataSourceConfig> replicaConfigs;
+
+    /**
+     * Constructor.
+     */
+    public RoutingDataSource() {
+
+        super();
+
+        replicas = new ArrayList<DataSource>();
+
+        replicaConfigs = null;
+    }
+
+    /**
+     * Get replica data sources.
+     * @return The replica data sources
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Set replica data sources.
+     * @param replicas The replica data sources
+     */
+    public void setReplicas(
+        final List<DataSource> replicas) {
+        this.replicas = (replicas == null) ? new ArrayList<DataSource>() : replicas;
+    }
+
+    /**
+     * Initialize data source.  The replicas inherit the configuration of the primary database
+     * before the data source is first used.
+     * @throws SQLException when unable to initialize the data source
+     */
+    public void initialize() throws SQLException {
+
+        inheritReplicaConfigs();
+
+        super.initialize();
+    }
+
+    /**
+     * Let the replicas inherit the configuration of the primary database, once.  The configuration
+     * that was set on each replica is retained, so that it can be inherited again when the
+     * configuration of the primary database changes.
+     */
+    private synchronized void inheritReplicaConfigs() {
+
+        DataSourceConfig replicaConfig;
+
+        if (replicaConfigs != null) {
+            return;
+        }
+
+        replicaConfigs = new ArrayList<DataSourceConfig>(replicas.size());
+
+        for (DataSource replica : replicas) {
+
+            replicaConfig = new DataSourceConfig();
+            replicaConfig.copyConfig(replica);
+
+            replicaConfigs.add(replicaConfig);
+
+            replica.inheritConfig(this);
+        }
+
+    }
+
+    /**
+     * Reconfigure data source while it is live.  The primary database is reconfigured first,
+     * after which the replicas inherit the new configuration, while retaining the configuration
+     * that was set on each replica.
+     * @param changes The changes to apply to the configuration
+     * @throws SQLException when unable to reconfigure the data source
+     */
+    public synchronized void reconfigure(
+        final Consumer<DataSourceConfig> changes) throws SQLException {
+
+        inheritReplicaConfigs();
+
+        super.reconfigure(changes);
+
+        for (int i = 0; i < replicas.size(); i++) {
+            reconfigureReplica(replicas.get(i), replicaConfigs.get(i));
+        }
+
+    }
+
+    /**
+     * Reconfigure replica with the configuration that was set on it, and the configuration
+     * that it inherits from the primary database.
+     * @param replica The replica
+     * @param replicaConfig The configuration that was set on the replica
+     * @throws SQLException when unable to reconfigure the replica
+     */
+    private void reconfigureReplica(
+        final DataSource replica,
+        final DataSourceConfig replicaConfig) throws SQLException {
+
+        replica.reconfigure(config -> {
+
+            config.copyConfig(replicaConfig);
+
+            config.inheritConfig(this);
+        });
+
+    }
+
+    /**
+     * Start data source.  The connection pools of the primary database and of the replicas
+     * are warmed up in parallel.
+     * @return The future that is completed when all the connection pools are warm
+     */
+    public CompletableFuture<Void> start() {
+
+        List<CompletableFuture<Void>> futures;
+
+        futures = new ArrayList<CompletableFuture<Void>>();
+
+        futures.add(super.start());
+
+        for (DataSource replica : replicas) {
+            futures.add(replica.start());
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Indicate whether data source is ready.  The data source is ready when the connection
+     * pools of the primary database and of all the replicas have been warmed up.
+     * @return true if the data source is ready, false otherwise
+     */
+    public boolean isReady() {
+
+        if (super.isReady() == false) {
+            return false;
+        }
+
+        for (DataSource replica : replicas) {
+
+            if (replica.isReady() == false) {
+                return false;
+            }
+
+        }
+
+        return true;
+    }
+
+    /**
+     * Get connection to database.  The connection is routed to the primary database,
+     * unless it is marked as read-only before it is first used.
+     * @param priority The priority with which to borrow the connection
+     * @return The connection
+     * @throws SQLException when unable to get a connection
+     */
+    public Connection getConnection(
+        final Priority priority) throws SQLException {
+
+        try {
+
+            return new RoutingConnection(this, priority).getProxy();
+        }
+        catch (ApplicationException exception) {
+            throw new SQLException("Failed to create routing connection: " + exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Get connection to database without blocking the calling thread.  The connection is
+     * routed like the connections that are borrowed synchronously, so the future is completed
+     * immediately, and the physical connection is borrowed when the connection is first used.
+     * Use {@code getReadOnlyConnectionAsync} or {@code getPrimaryConnectionAsync} to borrow
+     * the physical connection without blocking.
+     * @param priority The priority with which to borrow the connection
+     * @return The future connection
+     */
+    public CompletableFuture<Connection> getConnectionAsync(
+        final Priority priority) {
+
+        CompletableFuture<Connection> future;
+
+        try {
+
+            return CompletableFuture.completedFuture(getConnection(priority));
+        }
+        catch (SQLException exception) {
+
+            future = new CompletableFuture<Connection>();
+
+            future.completeExceptionally(exception);
+
+            return future;
+        }
+
+    }
+
+    /**
+     * Get connection to the primary database without blocking the calling thread.
+     * @param priority The priority with which to borrow the connection
+     * @return The future connection
+     */
+    public CompletableFuture<Connection> getPrimaryConnectionAsync(
+        final Priority priority) {
+        return super.getConnectionAsync(priority);
+    }
+
+    /**
+     * Get connection to the replica database with the fewest active connections without
+     * blocking the calling thread.  The connection to the replica is marked as read-only.
+     * If there are no replicas, or if no replica can provide a connection, then get a
+     * connection to the primary database.
+     * @param priority The priority with which to borrow the connection
+     * @return The future connection
+     */
+    public CompletableFuture<Connection> getReadOnlyConnectionAsync(
+        final Priority priority) {
+
+        String methodName = "getReadOnlyConnectionAsync";
+        DataSource replica;
+
+        try {
+
+            initialize();
+
+            replica = selectReplica();
+        }
+        catch (SQLException exception) {
+            return getPrimaryConnectionAsync(priority);
+        }
+
+        if (replica == null) {
+            return getPrimaryConnectionAsync(priority);
+        }
+
+        return replica.getConnectionAsync(priority).handle((connection, exception) -> {
+
+            if (exception != null) {
+                logger.warn(methodName, "Replica [", replica.getUrl(), "] unable to provide connection; routing to primary: ", exception.getMessage());
+
+                return getPrimaryConnectionAsync(priority);
+            }
+
+            try {
+
+                connection.setReadOnly(true);
+            }
+            catch (SQLException readOnlyException) {
+                logger.warn(methodName, "Replica [", replica.getUrl(), "] does not support setting read-only mode.");
+            }
+
+            return CompletableFuture.completedFuture(connection);
+        }).thenCompose(connection -> connection);
+    }
+
+    /**
+     * Get connection to the primary database.
+     * @return The connection
+     * @throws SQLException when unable to get a connection
+     */
+    public Connection getPrimaryConnection() throws SQLException {
+        return getPrimaryConnection(Priority.NORMAL);
+    }
+
+    /**
+     * Get connection to the primary database.
+     * @param priority The priority with which to borrow the connection
+     * @return The connection
+     * @throws SQLException when unable to get a connection
+     */
+    public Connection getPrimaryConnection(
+        final Priority priority) throws SQLException {
+        return super.getConnection(priority);
+    }
+
+    /**
+     * Get connection to the replica database with the fewest active connections.  If there
+     * are no replicas, or if no replica can provide a connection, then get a connection
+     * to the primary database.
+     * @return The connection
+     * @throws SQLException when unable to get a connection
+     */
+    public Connection getReadOnlyConnection() throws SQLException {
+        return getReadOnlyConnection(Priority.NORMAL);
+    }
+
+    /**
+     * Get connection to the replica database with the fewest active connections.  The
+     * connection to the replica is marked as read-only.  If there are no replicas, or if
+     * no replica can provide a connection, then get a connection to the primary database,
+     * which is left as it is, so that the primary pool never holds read-only connections.
+     * @param priority The priority with which to borrow the connection
+     * @return The connection
+     * @throws SQLException when unable to get a connection
+     */
+    public Connection getReadOnlyConnection(
+        final Priority priority) throws SQLException {
+
+        String methodName = "getReadOnlyConnection";
+        DataSource replica;
+        Connection connection;
+
+        initialize();
+
+        replica = selectReplica();
+
+        if (replica == null) {
+            return getPrimaryConnection(priority);
+        }
+
+        try {
+
+            connection = replica.getConnection(priority);
+        }
+        catch (SQLException exception) {
+            logger.warn(methodName, "Replica [", replica.getUrl(), "] unable to provide connection; routing to primary: ", exception.getMessage());
+
+            return getPrimaryConnection(priority);
+        }
+
+        try {
+
+            connection.setReadOnly(true);
+        }
+        catch (SQLException exception) {
+            logger.warn(methodName, "Replica [", replica.getUrl(), "] does not support setting read-only mode.");
+        }
+
+        return connection;
+    }
+
+    /**
+     * Select replica with the fewest active connections.
+     * @return The replica, or null if there are no replicas
+     * @throws SQLException when unable to initialize a replica
+     */
+    private DataSource selectReplica() throws SQLException {
+
+        DataSource selected;
+        ConnectionPool connectionPool;
+        long outstanding;
+        long fewest;
+
+        selected = null;
+
+        fewest = Long.MAX_VALUE;
+
+        for (DataSource replica : replicas) {
+
+            connectionPool = replica.getConnectionPool();
+
+            outstanding = connectionPool.getActiveConnections() + connectionPool.getConnectionDeficit();
+
+            if (outstanding < fewest) {
+
+                selected = replica;
+
+                fewest = outstanding;
+            }
+
+        }
+
+        return selected;
+    }
+
+}
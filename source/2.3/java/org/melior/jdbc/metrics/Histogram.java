@@ -0,0 +1,194 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.metrics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of non-negative values without locking.  The values are counted
+ * in log-linear buckets: each power of two is divided into 16 buckets of equal width, so
+ * that the value reported for a percentile is within 6.25% of the value that was recorded,
+ * over the full range of a {@code long}.  The buckets are preallocated, so that recording
+ * a value neither allocates nor blocks.
+ * @author Melior
+ * @since 2.3
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private AtomicLongArray counts;
+
+    private LongAdder count;
+
+    private LongAdder total;
+
+    private AtomicLong maximum;
+
+    /**
+     * Constructor.
+     */
+    public Histogram() {
+
+        super();
+
+        counts = new AtomicLongArray(BUCKETS);
+
+        count = new LongAdder();
+
+        total = new LongAdder();
+
+        maximum = new AtomicLong(0);
+    }
+
+    /**
+     * Record value.  Negative values are recorded as zero.
+     * @param value The value
+     */
+    public void record(
+        final long value) {
+
+        long current;
+
+        current = Math.max(value, 0);
+
+        counts.incrementAndGet(getBucket(current));
+
+        count.increment();
+
+        total.add(current);
+
+        maximum.accumulateAndGet(current, Math::max);
+    }
+
+    /**
+     * Get number of recorded values.
+     * @return The number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get sum of recorded values.
+     * @return The sum of recorded values
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Get largest recorded value.
+     * @return The largest recorded value
+     */
+    public long getMaximum() {
+        return maximum.get();
+    }
+
+    /**
+     * Get mean of recorded values.
+     * @return The mean of recorded values
+     */
+    public double getMean() {
+
+        long currentCount;
+
+        currentCount = count.sum();
+
+        return (currentCount == 0) ? 0 : (double) total.sum() / currentCount;
+    }
+
+    /**
+     * Get value at percentile.  The value is the upper bound of the bucket that contains
+     * the percentile, capped at the largest recorded value.
+     * @param percentile The percentile, from 0 to 100
+     * @return The value at the percentile
+     */
+    public long getPercentile(
+        final double percentile) {
+
+        long currentCount;
+        long rank;
+        long cumulative;
+
+        currentCount = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            currentCount = currentCount + counts.get(i);
+        }
+
+        if (currentCount == 0) {
+            return 0;
+        }
+
+        rank = Math.max((long) Math.ceil(currentCount * Math.min(Math.max(percentile, 0), 100) / 100), 1);
+
+        cumulative = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+
+            cumulative = cumulative + counts.get(i);
+
+            if (cumulative >= rank) {
+                return Math.min(getUpperBound(i), maximum.get());
+            }
+
+        }
+
+        return maximum.get();
+    }
+
+    /**
+     * Get bucket for value.  Values below the number of sub-buckets have a bucket each,
+     * after which each power of two has the same number of buckets.
+     * @param value The value
+     * @return The bucket
+     */
+    private static int getBucket(
+        final long value) {
+
+        int exponent;
+
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        exponent = 63 - Long.numberOfLeadingZeros(value);
+
+        return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS) + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Get largest value that falls in bucket.
+     * @param bucket The bucket
+     * @return The largest value that falls in the bucket
+     */
+    private static long getUpperBound(
+        final int bucket) {
+
+        int exponent;
+        long width;
+
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        exponent = (bucket / SUB_BUCKETS) + SUB_BUCKET_BITS - 1;
+
+        width = 1L << (exponent - SUB_BUCKET_BITS);
+
+        return (1L << exponent) + ((bucket % SUB_BUCKETS) * width) + width - 1;
+    }
+
+}
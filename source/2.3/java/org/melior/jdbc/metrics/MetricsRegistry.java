@@ -0,0 +1,138 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.metrics;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the measurements of the statements that are executed through a data source, keyed
+ * by the fingerprint of each statement, along with the aggregate for the data source.  The
+ * number of fingerprints is bounded; once the bound is reached, the statements with new
+ * fingerprints are measured together under a single overflow entry.  The measurements are
+ * also cached by SQL text, so that a statement that is executed repeatedly is only
+ * fingerprinted once; the cache is cleared when it reaches its bound.
+ * @author Melior
+ * @since 2.3
+ */
+public class MetricsRegistry {
+
+    private static final String OVERFLOW = "(other statements)";
+
+    private boolean enabled;
+
+    private int capacity;
+
+    private ConcurrentHashMap<String, StatementMetrics> statements;
+
+    private ConcurrentHashMap<String, StatementMetrics> texts;
+
+    private StatementMetrics aggregate;
+
+    /**
+     * Constructor.
+     * @param enabled true if statements must be measured, false otherwise
+     * @param capacity The maximum number of fingerprints
+     */
+    public MetricsRegistry(
+        final boolean enabled,
+        final int capacity) {
+
+        super();
+
+        this.enabled = enabled;
+
+        this.capacity = capacity;
+
+        statements = new ConcurrentHashMap<String, StatementMetrics>();
+
+        texts = new ConcurrentHashMap<String, StatementMetrics>();
+
+        aggregate = new StatementMetrics("", null);
+    }
+
+    /**
+     * Indicate whether statements are measured.
+     * @return true if statements are measured, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get measurements for SQL statement.
+     * @param sql The SQL text
+     * @return The measurements of the statements that share the fingerprint of the SQL text,
+     * or null if statements are not measured
+     */
+    public StatementMetrics get(
+        final String sql) {
+
+        String fingerprint;
+        StatementMetrics metrics;
+
+        if ((enabled == false) || (sql == null)) {
+            return null;
+        }
+
+        metrics = texts.get(sql);
+
+        if (metrics != null) {
+            return metrics;
+        }
+
+        fingerprint = StatementFingerprint.of(sql);
+
+        metrics = statements.get(fingerprint);
+
+        if (metrics == null) {
+            metrics = statements.computeIfAbsent((statements.size() < capacity) ? fingerprint : OVERFLOW,
+                key -> new StatementMetrics(key, aggregate));
+        }
+
+        if (texts.size() >= capacity * 4) {
+            texts.clear();
+        }
+
+        texts.put(sql, metrics);
+
+        return metrics;
+    }
+
+    /**
+     * Get snapshot of the aggregate measurements of all statements.
+     * @return The snapshot
+     */
+    public StatementSnapshot getAggregate() {
+        return aggregate.getSnapshot();
+    }
+
+    /**
+     * Get snapshots of the statements on which the most time was spent.
+     * @param count The maximum number of statements
+     * @return The snapshots, in order of total execution time, from the highest
+     */
+    public List<StatementSnapshot> getTopStatements(
+        final int count) {
+
+        List<StatementSnapshot> snapshots;
+
+        snapshots = new ArrayList<StatementSnapshot>(statements.size());
+
+        for (StatementMetrics metrics : statements.values()) {
+            snapshots.add(metrics.getSnapshot());
+        }
+
+        snapshots.sort(Comparator.comparingDouble(StatementSnapshot::getTotalTime).reversed());
+
+        return new ArrayList<StatementSnapshot>(snapshots.subList(0, Math.min(Math.max(count, 0), snapshots.size())));
+    }
+
+}
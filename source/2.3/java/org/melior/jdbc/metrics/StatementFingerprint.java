@@ -0,0 +1,258 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.metrics;
+
+/**
+ * Derives the fingerprint of an SQL statement, so that executions of the same statement
+ * with different literals are measured together.  String and numeric literals, including the
+ * sign and exponent of numbers, are replaced by a placeholder, lists of placeholders are
+ * collapsed to a single placeholder, comments are removed, and runs of whitespace are collapsed
+ * to a single space.  Quoted identifiers are preserved.
+ * @author Melior
+ * @since 2.3
+ */
+public class StatementFingerprint {
+
+    /**
+     * Constructor.
+     */
+    private StatementFingerprint() {
+
+        super();
+    }
+
+    /**
+     * Get fingerprint of SQL statement.
+     * @param sql The SQL text
+     * @return The fingerprint
+     */
+    public static String of(
+        final String sql) {
+
+        StringBuilder builder;
+        int length;
+        int i;
+        char character;
+        char previous;
+
+        builder = new StringBuilder(sql.length());
+
+        length = sql.length();
+
+        i = 0;
+
+        while (i < length) {
+
+            character = sql.charAt(i);
+
+            previous = (builder.length() == 0) ? ' ' : builder.charAt(builder.length() - 1);
+
+            if (character == '\'') {
+
+                i = skipQuoted(sql, i, '\'');
+
+                appendPlaceholder(builder);
+            }
+            else if (character == '"') {
+
+                builder.append(sql, i, skipQuoted(sql, i, '"'));
+
+                i = skipQuoted(sql, i, '"');
+            }
+            else if ((character == '-') && (i + 1 < length) && (sql.charAt(i + 1) == '-')) {
+
+                while ((i < length) && (sql.charAt(i) != '\n')) {
+                    i++;
+                }
+
+            }
+            else if ((character == '/') && (i + 1 < length) && (sql.charAt(i + 1) == '*')) {
+
+                i = sql.indexOf("*/", i + 2);
+
+                i = (i < 0) ? length : i + 2;
+            }
+            else if (Character.isWhitespace(character) == true) {
+
+                if (previous != ' ') {
+                    builder.append(' ');
+                }
+
+                i++;
+            }
+            else if (character == '?') {
+
+                appendPlaceholder(builder);
+
+                i++;
+            }
+            else if (((Character.isDigit(character) == true) && (isIdentifierPart(previous) == false))
+                || (((character == '-') || (character == '+')) && (i + 1 < length) && (Character.isDigit(sql.charAt(i + 1)) == true)
+                && (isOperand(lastNonSpace(builder)) == false))) {
+
+                i = skipNumber(sql, i + 1);
+
+                appendPlaceholder(builder);
+            }
+            else {
+
+                builder.append(character);
+
+                i++;
+            }
+
+        }
+
+        return builder.toString().trim();
+    }
+
+    /**
+     * Skip numeric literal.  The exponent of the literal, including its sign, is part of the literal.
+     * @param sql The SQL text
+     * @param start The position after the first character of the literal
+     * @return The position after the literal
+     */
+    private static int skipNumber(
+        final String sql,
+        final int start) {
+
+        int i;
+        char character;
+
+        i = start;
+
+        while (i < sql.length()) {
+
+            character = sql.charAt(i);
+
+            if ((isIdentifierPart(character) == false) && (character != '.')
+                && (((character != '-') && (character != '+')) || (Character.toLowerCase(sql.charAt(i - 1)) != 'e')
+                || (i + 1 >= sql.length()) || (Character.isDigit(sql.charAt(i + 1)) == false))) {
+                break;
+            }
+
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Append placeholder to fingerprint.  A placeholder that follows another placeholder in
+     * a list is absorbed by it, so that lists of different lengths share a fingerprint.
+     * @param builder The fingerprint
+     */
+    private static void appendPlaceholder(
+        final StringBuilder builder) {
+
+        int end;
+
+        end = builder.length();
+
+        while ((end > 0) && (builder.charAt(end - 1) == ' ')) {
+            end--;
+        }
+
+        if ((end > 0) && (builder.charAt(end - 1) == ',')) {
+
+            end--;
+
+            while ((end > 0) && (builder.charAt(end - 1) == ' ')) {
+                end--;
+            }
+
+            if ((end > 0) && (builder.charAt(end - 1) == '?')) {
+
+                builder.setLength(end);
+
+                return;
+            }
+
+        }
+
+        builder.append('?');
+    }
+
+    /**
+     * Get last character of fingerprint that is not a space.
+     * @param builder The fingerprint
+     * @return The last character that is not a space, or a space if there is none
+     */
+    private static char lastNonSpace(
+        final StringBuilder builder) {
+
+        int end;
+
+        end = builder.length();
+
+        while ((end > 0) && (builder.charAt(end - 1) == ' ')) {
+            end--;
+        }
+
+        return (end == 0) ? ' ' : builder.charAt(end - 1);
+    }
+
+    /**
+     * Indicate whether character ends an operand, in which case a following sign is an operator
+     * rather than the sign of a numeric literal.
+     * @param character The character
+     * @return true if the character ends an operand, false otherwise
+     */
+    private static boolean isOperand(
+        final char character) {
+        return (isIdentifierPart(character) == true) || (character == ')') || (character == '?') || (character == '"');
+    }
+
+    /**
+     * Skip quoted text.  A doubled quote inside the text is an escaped quote.
+     * @param sql The SQL text
+     * @param start The position of the opening quote
+     * @param quote The quote
+     * @return The position after the closing quote
+     */
+    private static int skipQuoted(
+        final String sql,
+        final int start,
+        final char quote) {
+
+        int i;
+
+        i = start + 1;
+
+        while (i < sql.length()) {
+
+            if (sql.charAt(i) == quote) {
+
+                if ((i + 1 < sql.length()) && (sql.charAt(i + 1) == quote)) {
+
+                    i = i + 2;
+
+                    continue;
+                }
+
+                return i + 1;
+            }
+
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Indicate whether character may be part of an identifier.
+     * @param character The character
+     * @return true if the character may be part of an identifier, false otherwise
+     */
+    private static boolean isIdentifierPart(
+        final char character) {
+        return (Character.isLetterOrDigit(character) == true) || (character == '_') || (character == '$');
+    }
+
+}
@@ -0,0 +1,153 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.metrics;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the executions of the statements that share a fingerprint.  The latency of
+ * each execution is recorded in microseconds, and the number of rows that each execution
+ * returned or affected is recorded where it is known.  Failed executions are counted as
+ * errors, and their latency is recorded too, because the time was spent all the same.
+ * The measurements are also recorded in the aggregate of the data source, if any.
+ * @author Melior
+ * @since 2.3
+ */
+public class StatementMetrics {
+
+    private String fingerprint;
+
+    private StatementMetrics aggregate;
+
+    private Histogram latency;
+
+    private Histogram rows;
+
+    private LongAdder errors;
+
+    /**
+     * Constructor.
+     * @param fingerprint The fingerprint of the statements
+     * @param aggregate The aggregate in which the measurements are also recorded, or null if none
+     */
+    StatementMetrics(
+        final String fingerprint,
+        final StatementMetrics aggregate) {
+
+        super();
+
+        this.fingerprint = fingerprint;
+
+        this.aggregate = aggregate;
+
+        latency = new Histogram();
+
+        rows = new Histogram();
+
+        errors = new LongAdder();
+    }
+
+    /**
+     * Get fingerprint of the statements.
+     * @return The fingerprint of the statements
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Get histogram of execution latency.
+     * @return The histogram of execution latency, in microseconds
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Get histogram of rows returned or affected.
+     * @return The histogram of rows returned or affected
+     */
+    public Histogram getRows() {
+        return rows;
+    }
+
+    /**
+     * Get number of failed executions.
+     * @return The number of failed executions
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Record successful execution.
+     * @param latency The latency, in nanoseconds
+     * @param rows The number of rows returned or affected, or -1 if not known
+     */
+    public void recordExecution(
+        final long latency,
+        final long rows) {
+
+        this.latency.record(TimeUnit.NANOSECONDS.toMicros(latency));
+
+        if (rows >= 0) {
+
+            this.rows.record(rows);
+        }
+
+        if (aggregate != null) {
+
+            aggregate.recordExecution(latency, rows);
+        }
+
+    }
+
+    /**
+     * Record number of rows that were read from a result set.
+     * @param rows The number of rows
+     */
+    public void recordRows(
+        final long rows) {
+
+        this.rows.record(rows);
+
+        if (aggregate != null) {
+
+            aggregate.recordRows(rows);
+        }
+
+    }
+
+    /**
+     * Record failed execution.
+     * @param latency The latency, in nanoseconds
+     */
+    public void recordError(
+        final long latency) {
+
+        this.latency.record(TimeUnit.NANOSECONDS.toMicros(latency));
+
+        errors.increment();
+
+        if (aggregate != null) {
+
+            aggregate.recordError(latency);
+        }
+
+    }
+
+    /**
+     * Get snapshot of the measurements.
+     * @return The snapshot
+     */
+    public StatementSnapshot getSnapshot() {
+        return new StatementSnapshot(this);
+    }
+
+}
@@ -0,0 +1,159 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.metrics;
+
+/**
+ * Captures the measurements of the statements that share a fingerprint at a point in time.
+ * Times are reported in milliseconds.
+ * @author Melior
+ * @since 2.3
+ */
+public class StatementSnapshot {
+
+    private String fingerprint;
+
+    private long executions;
+
+    private long errors;
+
+    private double totalTime;
+
+    private double meanTime;
+
+    private double medianTime;
+
+    private double percentile99Time;
+
+    private double maximumTime;
+
+    private long totalRows;
+
+    private long maximumRows;
+
+    /**
+     * Constructor.
+     * @param metrics The measurements
+     */
+    StatementSnapshot(
+        final StatementMetrics metrics) {
+
+        super();
+
+        fingerprint = metrics.getFingerprint();
+
+        executions = metrics.getLatency().getCount();
+
+        errors = metrics.getErrors();
+
+        totalTime = metrics.getLatency().getTotal() / 1000.0;
+
+        meanTime = metrics.getLatency().getMean() / 1000.0;
+
+        medianTime = metrics.getLatency().getPercentile(50) / 1000.0;
+
+        percentile99Time = metrics.getLatency().getPercentile(99) / 1000.0;
+
+        maximumTime = metrics.getLatency().getMaximum() / 1000.0;
+
+        totalRows = metrics.getRows().getTotal();
+
+        maximumRows = metrics.getRows().getMaximum();
+    }
+
+    /**
+     * Get fingerprint of the statements.
+     * @return The fingerprint of the statements
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Get number of executions, including failed executions.
+     * @return The number of executions
+     */
+    public long getExecutions() {
+        return executions;
+    }
+
+    /**
+     * Get number of failed executions.
+     * @return The number of failed executions
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get total execution time.
+     * @return The total execution time
+     */
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Get mean execution time.
+     * @return The mean execution time
+     */
+    public double getMeanTime() {
+        return meanTime;
+    }
+
+    /**
+     * Get median execution time.
+     * @return The median execution time
+     */
+    public double getMedianTime() {
+        return medianTime;
+    }
+
+    /**
+     * Get 99th percentile of execution time.
+     * @return The 99th percentile of execution time
+     */
+    public double getPercentile99Time() {
+        return percentile99Time;
+    }
+
+    /**
+     * Get maximum execution time.
+     * @return The maximum execution time
+     */
+    public double getMaximumTime() {
+        return maximumTime;
+    }
+
+    /**
+     * Get total number of rows returned or affected.
+     * @return The total number of rows returned or affected
+     */
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    /**
+     * Get maximum number of rows returned or affected by a single execution.
+     * @return The maximum number of rows returned or affected by a single execution
+     */
+    public long getMaximumRows() {
+        return maximumRows;
+    }
+
+    /**
+     * Get string representation of snapshot.
+     * @return The string representation of the snapshot
+     */
+    public String toString() {
+        return "executions=" + executions + ", errors=" + errors + ", total=" + totalTime + " ms, mean=" + meanTime
+            + " ms, median=" + medianTime + " ms, p99=" + percentile99Time + " ms, max=" + maximumTime + " ms, rows=" + totalRows
+            + ", sql=" + fingerprint;
+    }
+
+}
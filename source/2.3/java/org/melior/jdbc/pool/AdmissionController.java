@@ -0,0 +1,98 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+
+/**
+ * Decides whether a borrower that would have to wait for a {@code Connection} is
+ * admitted to the wait, or is rejected immediately.  The expected wait is estimated
+ * from the number of borrowers that are already waiting and the average amount of
+ * time that a {@code Connection} is held, and from the amount of time that recent
+ * borrowers have had to wait.  A borrower is rejected if the expected wait exceeds
+ * the amount of time that the borrower is prepared to wait.
+ * @author Melior
+ * @since 2.3
+ */
+public class AdmissionController {
+
+    private static final double SMOOTHING_FACTOR = 0.1;
+
+    private volatile double holdTime;
+
+    private volatile double waitTime;
+
+    /**
+     * Constructor.
+     */
+    public AdmissionController() {
+
+        super();
+
+        holdTime = 0;
+
+        waitTime = 0;
+    }
+
+    /**
+     * Get average amount of time that a connection is held.
+     * @return The average amount of time that a connection is held, in milliseconds
+     */
+    public long getHoldTime() {
+        return (long) holdTime;
+    }
+
+    /**
+     * Get average amount of time that borrowers wait for a connection.
+     * @return The average amount of time that borrowers wait for a connection, in milliseconds
+     */
+    public long getWaitTime() {
+        return (long) waitTime;
+    }
+
+    /**
+     * Record amount of time that a connection was held.
+     * @param duration The amount of time that the connection was held, in milliseconds
+     */
+    public void recordHoldTime(
+        final long duration) {
+        holdTime = (SMOOTHING_FACTOR * duration) + ((1 - SMOOTHING_FACTOR) * holdTime);
+    }
+
+    /**
+     * Record amount of time that a borrower waited for a connection.
+     * @param duration The amount of time that the borrower waited, in milliseconds
+     */
+    public void recordWaitTime(
+        final long duration) {
+        waitTime = (SMOOTHING_FACTOR * duration) + ((1 - SMOOTHING_FACTOR) * waitTime);
+    }
+
+    /**
+     * Check whether borrower may wait for a connection.
+     * @param deficit The number of borrowers that are waiting, including this borrower
+     * @param activeConnections The number of active connections
+     * @param remainingTime The amount of time that the borrower is prepared to wait, in milliseconds
+     * @return true if the borrower may wait, false if the borrower must be rejected
+     */
+    public boolean admit(
+        final long deficit,
+        final long activeConnections,
+        final long remainingTime) {
+
+        double expectedWait;
+
+        if (deficit <= 1) {
+            return true;
+        }
+
+        expectedWait = Math.max(waitTime, deficit * holdTime / Math.max(activeConnections, 1));
+
+        return expectedWait <= remainingTime;
+    }
+
+}
@@ -0,0 +1,180 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import org.melior.util.number.Counter;
+
+/**
+ * Implements a circuit breaker that guards the opening of connections to the database.
+ * <p>
+ * The circuit is closed while connections open successfully.  When a connection fails to
+ * open, the circuit opens for a backoff period, during which borrowers that would have to
+ * wait for a new connection fail fast instead.  When the backoff period has elapsed, the
+ * circuit becomes half-open and a single probe connection is opened.  The circuit closes
+ * if the probe succeeds, otherwise the circuit opens again with a longer backoff period.
+ * <p>
+ * The backoff period grows exponentially up to the backoff limit, and is jittered so that
+ * several pools that lose the database at the same time do not probe it in lockstep.
+ * @author Melior
+ * @since 2.3
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN;
+    }
+
+    private volatile long backoffPeriod;
+
+    private volatile float backoffMultiplier;
+
+    private volatile long backoffLimit;
+
+    private AtomicReference<State> state;
+
+    private volatile long currentBackoff;
+
+    private volatile long retryTime;
+
+    private Counter trips;
+
+    /**
+     * Constructor.
+     * @param backoffPeriod The initial backoff period, in milliseconds
+     * @param backoffMultiplier The factor by which the backoff period grows after each failed probe
+     * @param backoffLimit The maximum backoff period, in milliseconds
+     */
+    public CircuitBreaker(
+        final long backoffPeriod,
+        final float backoffMultiplier,
+        final long backoffLimit) {
+
+        super();
+
+        setBackoff(backoffPeriod, backoffMultiplier, backoffLimit);
+
+        state = new AtomicReference<State>(State.CLOSED);
+
+        currentBackoff = 0;
+
+        retryTime = 0;
+
+        trips = Counter.of(0);
+    }
+
+    /**
+     * Set backoff parameters.  The new parameters apply from the next failure.
+     * @param backoffPeriod The initial backoff period, in milliseconds
+     * @param backoffMultiplier The factor by which the backoff period grows after each failed probe
+     * @param backoffLimit The maximum backoff period, in milliseconds
+     */
+    public void setBackoff(
+        final long backoffPeriod,
+        final float backoffMultiplier,
+        final long backoffLimit) {
+
+        this.backoffPeriod = Math.max(backoffPeriod, 0);
+
+        this.backoffMultiplier = Math.max(backoffMultiplier, 1);
+
+        this.backoffLimit = Math.max(backoffLimit, this.backoffPeriod);
+    }
+
+    /**
+     * Get state of the circuit.
+     * @return The state of the circuit
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Get number of times that the circuit has opened.
+     * @return The number of times that the circuit has opened
+     */
+    public long getTrips() {
+        return trips.get();
+    }
+
+    /**
+     * Check whether the circuit is closed.
+     * @return true if the circuit is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return state.get() == State.CLOSED;
+    }
+
+    /**
+     * Get amount of time until a probe may be attempted.
+     * @return The amount of time until a probe may be attempted, in milliseconds
+     */
+    public long getRemainingBackoff() {
+        return (state.get() == State.OPEN) ? Math.max(retryTime - System.currentTimeMillis(), 0) : 0;
+    }
+
+    /**
+     * Move circuit from open to half-open, if the backoff period has elapsed.
+     * Only one caller succeeds, and that caller must open the probe connection.
+     * @return true if the caller must open the probe connection, false otherwise
+     */
+    public boolean tryProbe() {
+        return (getRemainingBackoff() == 0) && (state.compareAndSet(State.OPEN, State.HALF_OPEN) == true);
+    }
+
+    /**
+     * Record that a connection was opened successfully, which closes the circuit.
+     * @return The previous state of the circuit
+     */
+    public State recordSuccess() {
+
+        currentBackoff = 0;
+
+        return state.getAndSet(State.CLOSED);
+    }
+
+    /**
+     * Record that a connection failed to open, which opens the circuit.
+     * @return The previous state of the circuit
+     */
+    public State recordFailure() {
+
+        long backoff;
+        State previous;
+
+        backoff = (currentBackoff == 0) ? backoffPeriod : Math.min((long) (currentBackoff * backoffMultiplier), backoffLimit);
+
+        currentBackoff = backoff;
+
+        retryTime = System.currentTimeMillis() + (backoff / 2) + ThreadLocalRandom.current().nextLong((backoff / 2) + 1);
+
+        previous = state.getAndSet(State.OPEN);
+
+        if (previous == State.CLOSED) {
+
+            trips.increment();
+        }
+
+        return previous;
+    }
+
+    /**
+     * Close circuit and reset backoff period.
+     * @return The previous state of the circuit
+     */
+    public State reset() {
+        return recordSuccess();
+    }
+
+}
@@ -0,0 +1,197 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts the limit on the number of connections in the pool to the latency of the
+ * statements that are executed on the connections.  The latency of each window of
+ * samples is compared against the long-term latency, and the limit is moved down in
+ * proportion to the increase in latency, or up by the square root of the limit when
+ * the latency holds steady.  The limit therefore settles near the point beyond which
+ * adding connections only adds queueing in the database.
+ * @author Melior
+ * @since 2.3
+ */
+public class ConcurrencyLimiter {
+
+    private static final long WINDOW = 1000 * 1000 * 1000L;
+
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private static final double LONG_TERM_FACTOR = 0.05;
+
+    private static final double TOLERANCE = 1.5;
+
+    private volatile int minimumLimit;
+
+    private volatile int maximumLimit;
+
+    private volatile double limit;
+
+    private double longTermLatency;
+
+    private AtomicLong sampleLatency;
+
+    private AtomicLong sampleCount;
+
+    private AtomicLong peakActive;
+
+    private volatile long windowStart;
+
+    private AtomicBoolean updating;
+
+    /**
+     * Constructor.
+     * @param minimumLimit The minimum limit
+     * @param maximumLimit The maximum limit
+     * @param initialLimit The initial limit
+     */
+    public ConcurrencyLimiter(
+        final int minimumLimit,
+        final int maximumLimit,
+        final int initialLimit) {
+
+        super();
+
+        this.minimumLimit = Math.max(minimumLimit, 1);
+
+        this.maximumLimit = Math.max(maximumLimit, this.minimumLimit);
+
+        limit = Math.min(Math.max(initialLimit, this.minimumLimit), this.maximumLimit);
+
+        longTermLatency = 0;
+
+        sampleLatency = new AtomicLong(0);
+
+        sampleCount = new AtomicLong(0);
+
+        peakActive = new AtomicLong(0);
+
+        windowStart = System.nanoTime();
+
+        updating = new AtomicBoolean(false);
+    }
+
+    /**
+     * Get current limit.
+     * @return The current limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Set bounds of the limit.  The current limit is moved inside the new bounds.
+     * @param minimumLimit The minimum limit
+     * @param maximumLimit The maximum limit
+     */
+    public void setBounds(
+        final int minimumLimit,
+        final int maximumLimit) {
+
+        this.minimumLimit = Math.max(minimumLimit, 1);
+
+        this.maximumLimit = Math.max(maximumLimit, this.minimumLimit);
+
+        limit = Math.min(Math.max(limit, this.minimumLimit), this.maximumLimit);
+    }
+
+    /**
+     * Record latency of statement execution.
+     * @param latency The latency, in nanoseconds
+     * @param activeConnections The number of active connections
+     */
+    public void record(
+        final long latency,
+        final long activeConnections) {
+
+        long peak;
+        long now;
+
+        sampleLatency.addAndGet(latency);
+
+        sampleCount.incrementAndGet();
+
+        peak = peakActive.get();
+
+        while ((activeConnections > peak) && (peakActive.compareAndSet(peak, activeConnections) == false)) {
+            peak = peakActive.get();
+        }
+
+        now = System.nanoTime();
+
+        if ((now - windowStart > WINDOW) && (updating.compareAndSet(false, true) == true)) {
+
+            try {
+
+                update(now);
+            }
+            finally {
+
+                updating.set(false);
+            }
+
+        }
+
+    }
+
+    /**
+     * Update limit from the latency of the samples in the window that has ended.
+     * @param now The current time, in nanoseconds
+     */
+    private void update(
+        final long now) {
+
+        long count;
+        long peak;
+        double shortTermLatency;
+        double gradient;
+        double newLimit;
+
+        count = sampleCount.getAndSet(0);
+
+        shortTermLatency = (count == 0) ? 0 : (double) sampleLatency.getAndSet(0) / count;
+
+        peak = peakActive.getAndSet(0);
+
+        windowStart = now;
+
+        if (shortTermLatency <= 0) {
+            return;
+        }
+
+        longTermLatency = (longTermLatency == 0) ? shortTermLatency
+            : (LONG_TERM_FACTOR * shortTermLatency) + ((1 - LONG_TERM_FACTOR) * longTermLatency);
+
+        if (longTermLatency / shortTermLatency > 2) {
+
+            longTermLatency = longTermLatency * 0.9;
+        }
+
+        gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longTermLatency / shortTermLatency));
+
+        newLimit = limit * gradient;
+
+        if ((gradient == 1.0) && (peak < limit / 2)) {
+            return;
+        }
+
+        if (gradient == 1.0) {
+
+            newLimit = newLimit + Math.sqrt(limit);
+        }
+
+        newLimit = (limit * (1 - SMOOTHING_FACTOR)) + (newLimit * SMOOTHING_FACTOR);
+
+        limit = Math.min(Math.max(newLimit, minimumLimit), maximumLimit);
+    }
+
+}
@@ -0,0 +1,248 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implements a budget of connections that is shared by several {@code ConnectionPool}
+ * objects, typically pools of different tenants or schemas that connect to the same
+ * database server, so that the pools together do not open more connections than the
+ * database server allows.
+ * <p>
+ * A pool must acquire a permit from the budget before it opens a connection, and returns
+ * the permit when the connection is retired.  When the budget is exhausted, capacity is
+ * taken back from the pool with the largest surplus of idle connections and lent to the
+ * pool that is in deficit.  When capacity is returned to the budget, the pools that are
+ * in deficit are notified, so that they may open connections.
+ * @author Melior
+ * @since 2.3
+ */
+public class ConnectionBudget {
+
+    private static final ConcurrentHashMap<String, ConnectionBudget> budgets = new ConcurrentHashMap<String, ConnectionBudget>();
+
+    private String name;
+
+    private volatile int limit;
+
+    private AtomicInteger usedConnections;
+
+    private List<ConnectionPool> pools;
+
+    /**
+     * Constructor.
+     * @param name The name of the budget
+     * @param limit The maximum number of connections that the pools may open together
+     */
+    private ConnectionBudget(
+        final String name,
+        final int limit) {
+
+        super();
+
+        this.name = name;
+
+        this.limit = limit;
+
+        usedConnections = new AtomicInteger(0);
+
+        pools = new CopyOnWriteArrayList<ConnectionPool>();
+    }
+
+    /**
+     * Get budget with the specified name, creating it if it does not exist yet.  The limit
+     * of an existing budget is only lowered to the specified limit, never raised, so that the
+     * budget is bounded by the lowest limit that is configured, and a pool that does not
+     * configure a limit does not lift the limit of the other pools, whatever the order in
+     * which the pools are started.
+     * @param name The name of the budget
+     * @param limit The maximum number of connections that the pools may open together
+     * @return The budget
+     */
+    public static ConnectionBudget of(
+        final String name,
+        final int limit) {
+
+        ConnectionBudget budget;
+
+        budget = budgets.computeIfAbsent(name, key -> new ConnectionBudget(key, limit));
+
+        synchronized (budget) {
+
+            if (limit < budget.getLimit()) {
+
+                budget.setLimit(limit);
+            }
+
+        }
+
+        return budget;
+    }
+
+    /**
+     * Get name of budget.
+     * @return The name of the budget
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get maximum number of connections that the pools may open together.
+     * @return The maximum number of connections
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Set maximum number of connections that the pools may open together.
+     * @param limit The maximum number of connections
+     */
+    public void setLimit(
+        final int limit) {
+
+        this.limit = limit;
+
+        notifyPools();
+    }
+
+    /**
+     * Get number of connections that the pools have open, or are busy opening.
+     * @return The number of used connections
+     */
+    public int getUsedConnections() {
+        return usedConnections.get();
+    }
+
+    /**
+     * Register pool with budget.
+     * @param pool The pool
+     */
+    public void register(
+        final ConnectionPool pool) {
+        pools.add(pool);
+    }
+
+    /**
+     * Deregister pool from budget.
+     * @param pool The pool
+     */
+    public void deregister(
+        final ConnectionPool pool) {
+        pools.remove(pool);
+    }
+
+    /**
+     * Acquire permit to open a connection.  If the budget is exhausted, then an idle connection
+     * is taken back from the pool with the largest surplus, if there is one.
+     * @param requester The pool that wants to open a connection
+     * @return true if the permit was acquired, false otherwise
+     */
+    public boolean acquire(
+        final ConnectionPool requester) {
+
+        ConnectionPool lender;
+
+        while (true) {
+
+            if (tryAcquire() == true) {
+                return true;
+            }
+
+            lender = getLender(requester);
+
+            if ((lender == null) || (lender.releaseSurplus() == false)) {
+                return false;
+            }
+
+        }
+
+    }
+
+    /**
+     * Return permit when a connection is retired, or when it fails to open.
+     */
+    public void release() {
+
+        usedConnections.decrementAndGet();
+
+        notifyPools();
+    }
+
+    /**
+     * Acquire permit if the budget is not exhausted.
+     * @return true if the permit was acquired, false otherwise
+     */
+    private boolean tryAcquire() {
+
+        int used;
+
+        while ((used = usedConnections.get()) < limit) {
+
+            if (usedConnections.compareAndSet(used, used + 1) == true) {
+                return true;
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Get pool with the largest surplus of idle connections, other than the requester.
+     * @param requester The pool that wants to open a connection
+     * @return The pool with the largest surplus, or null if no pool has a surplus
+     */
+    private ConnectionPool getLender(
+        final ConnectionPool requester) {
+
+        ConnectionPool lender;
+        long largestSurplus;
+        long surplus;
+
+        lender = null;
+
+        largestSurplus = 0;
+
+        for (ConnectionPool pool : pools) {
+
+            if (pool == requester) {
+                continue;
+            }
+
+            surplus = pool.getSurplusConnections();
+
+            if (surplus > largestSurplus) {
+
+                lender = pool;
+
+                largestSurplus = surplus;
+            }
+
+        }
+
+        return lender;
+    }
+
+    /**
+     * Notify pools that are in deficit that capacity may be available.
+     */
+    private void notifyPools() {
+
+        for (ConnectionPool pool : pools) {
+            pool.budgetAvailable();
+        }
+
+    }
+
+}
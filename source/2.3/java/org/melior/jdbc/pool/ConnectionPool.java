@@ -9,10 +9,26 @@
 package org.melior.jdbc.pool;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.melior.jdbc.core.Connection;
 import org.melior.jdbc.core.SQLState;
 import org.melior.jdbc.datasource.DataSource;
+import org.melior.jdbc.trace.TraceEvent;
+import org.melior.jdbc.trace.Tracer;
 import org.melior.logging.core.Logger;
 import org.melior.logging.core.LoggerFactory;
 import org.melior.service.core.ServiceState;
@@ -40,35 +56,89 @@ import org.melior.util.time.Timer;
  */
 public class ConnectionPool {
 
+    private static final long DISABLED_WAIT = 60 * 1000;
+
+    private static final int KEEPALIVE_CONCURRENCY = 4;
+
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
     protected DataSource dataSource;
 
+    private Tracer tracer;
+
     private String poolId;
 
+    private boolean threadAffinity;
+
     private ThreadLocal<Connection> threadIndex;
 
     private Counter totalConnections;
 
-    private BlockingQueue<Connection> availableConnectionQueue;
+    private Set<Connection> connections;
+
+    private ConnectionQueue availableConnectionQueue;
 
     private Counter connectionsSupply;
 
     private Semaphore demandSemaphore;
 
-    private long activeConnectionsCeiling;
+    private DemandForecaster demandForecaster;
+
+    private volatile long forecastConnections;
+
+    private volatile long warmupConnections;
+
+    private AtomicInteger warmupThreads;
+
+    private ExecutorService completionExecutor;
+
+    private ExecutorService keepaliveExecutor;
+
+    private CompletableFuture<Void> readiness;
+
+    private volatile ConcurrencyLimiter concurrencyLimiter;
+
+    private volatile AdmissionController admissionController;
+
+    private Counter rejectedBorrowers;
+
+    private ConnectionBudget connectionBudget;
+
+    private LeakDetector leakDetector;
+
+    private Counter leakedConnections;
 
     private BlockingQueue<Connection> retireConnectionQueue;
 
-    private SQLException lastException;
+    private Executor closeExecutor;
+
+    private Executor abortExecutor;
+
+    private Counter retiringConnections;
 
-    private long lastExceptionTime;
+    private Counter retiredConnections;
 
-    private long backoffPeriod;
+    private Counter abortedConnections;
 
-    private Counter churnedConnections;
+    private AtomicLong totalCloseTime;
+
+    private AtomicLong maximumCloseTime;
+
+    private Counter pendingConnections;
+
+    private Counter openedConnections;
+
+    private AtomicLong totalOpenTime;
 
-    private long lastPruneTime;
+    private AtomicLong maximumOpenTime;
+
+    private volatile SQLException lastException;
+
+    private volatile int generation;
+
+    private CircuitBreaker circuitBreaker;
+
+    private Counter churnedConnections;
 
     /**
      * Constructor.
@@ -82,39 +152,116 @@ public class ConnectionPool {
 
         this.dataSource = dataSource;
 
+        tracer = dataSource.getTracer();
+
         poolId = String.valueOf(this.hashCode());
 
-        threadIndex = new ThreadLocal<Connection>();
+        threadAffinity = dataSource.isThreadAffinity();
+
+        threadIndex = (threadAffinity == true) ? new ThreadLocal<Connection>() : null;
 
         totalConnections = Counter.of(0);
 
-        availableConnectionQueue = Queue.ofBlocking();
+        connections = ConcurrentHashMap.newKeySet();
+
+        availableConnectionQueue = new ConnectionQueue(threadAffinity, dataSource.getPoolStripes());
+
+        availableConnectionQueue.setReservedConnections(dataSource.getReservedConnections());
 
         connectionsSupply = Counter.of(0);
 
         demandSemaphore = Semaphore.of();
 
-        activeConnectionsCeiling = 0;
+        demandForecaster = (dataSource.isDemandForecast() == true)
+            ? new DemandForecaster(dataSource.getForecastInterval(), dataSource.getForecastLeadTime()) : null;
+
+        forecastConnections = 0;
+
+        warmupConnections = 0;
+
+        warmupThreads = new AtomicInteger(0);
+
+        completionExecutor = Executors.newCachedThreadPool(runnable -> createThread(runnable));
+
+        keepaliveExecutor = Executors.newCachedThreadPool(runnable -> createThread(runnable));
+
+        readiness = null;
+
+        concurrencyLimiter = (dataSource.isAdaptiveLimit() == true) ? new ConcurrencyLimiter(dataSource.getMinimumConnections(),
+            dataSource.getMaximumConnections(), Math.max(dataSource.getMinimumConnections(), 10)) : null;
+
+        admissionController = (dataSource.isAdmissionControl() == true) ? new AdmissionController() : null;
+
+        rejectedBorrowers = Counter.of(0);
+
+        connectionBudget = (dataSource.getBudgetName() == null) ? null : ConnectionBudget.of(dataSource.getBudgetName(), dataSource.getBudgetLimit());
+
+        leakDetector = new LeakDetector(dataSource.getLeakSampleInterval());
+
+        leakedConnections = Counter.of(0);
 
         retireConnectionQueue = Queue.ofBlocking();
 
+        closeExecutor = Executors.newFixedThreadPool(dataSource.getRetireConcurrency() * 2, runnable -> createThread(runnable));
+
+        abortExecutor = new ThreadPoolExecutor(0, dataSource.getRetireConcurrency() * 2, 60, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(), runnable -> createThread(runnable), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        retiringConnections = Counter.of(0);
+
+        retiredConnections = Counter.of(0);
+
+        abortedConnections = Counter.of(0);
+
+        totalCloseTime = new AtomicLong(0);
+
+        maximumCloseTime = new AtomicLong(0);
+
+        pendingConnections = Counter.of(0);
+
+        openedConnections = Counter.of(0);
+
+        totalOpenTime = new AtomicLong(0);
+
+        maximumOpenTime = new AtomicLong(0);
+
         lastException = null;
 
-        lastExceptionTime = 0;
+        generation = 0;
 
-        backoffPeriod = 0;
+        circuitBreaker = new CircuitBreaker(dataSource.getBackoffPeriod(), dataSource.getBackoffMultiplier(), dataSource.getBackoffLimit());
 
         churnedConnections = Counter.of(0);
 
-        lastPruneTime = System.currentTimeMillis();
+        if (connectionBudget != null) {
+
+            connectionBudget.register(this);
+        }
 
         resizePool();
 
-        DaemonThread.create(() -> openNewConnections());
+        for (int i = 0; i < dataSource.getOpenConcurrency(); i++) {
+
+            DaemonThread.create(() -> openNewConnections());
+        }
 
         DaemonThread.create(() -> pruneExpiredConnections());
 
-        DaemonThread.create(() -> retireConnections());
+        DaemonThread.create(() -> renewConnections());
+
+        DaemonThread.create(() -> keepConnectionsAlive());
+
+        DaemonThread.create(() -> detectLeaks());
+
+        if (demandForecaster != null) {
+
+            DaemonThread.create(() -> forecastDemand());
+        }
+
+        for (int i = 0; i < dataSource.getRetireConcurrency(); i++) {
+
+            DaemonThread.create(() -> retireConnections());
+        }
     }
 
     /**
@@ -124,6 +271,15 @@ public class ConnectionPool {
     public final String getPoolId() {
         return poolId;
     }
+
+    /**
+     * Get generation of the configuration of the connection pool.  Connections that were opened
+     * with the configuration of a previous generation are outdated and are rolled over.
+     * @return The generation of the configuration
+     */
+    public int getGeneration() {
+        return generation;
+    }
 
     /**
      * Get total number of connections.
@@ -148,7 +304,147 @@ public class ConnectionPool {
     public long getConnectionDeficit() {
         return Math.abs(Clamp.clampLong(connectionsSupply.get(), Integer.MIN_VALUE, 0));
     }
+
+    /**
+     * Get number of connections that are busy opening.
+     * @return The number of connections that are busy opening
+     */
+    public long getPendingConnections() {
+        return pendingConnections.get();
+    }
+
+    /**
+     * Get number of connections that have been opened successfully.
+     * @return The number of connections that have been opened successfully
+     */
+    public long getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    /**
+     * Get average amount of time taken to open a connection.
+     * @return The average amount of time taken to open a connection, in milliseconds
+     */
+    public long getAverageOpenTime() {
+        return (openedConnections.get() == 0) ? 0 : totalOpenTime.get() / openedConnections.get();
+    }
+
+    /**
+     * Get maximum amount of time taken to open a connection.
+     * @return The maximum amount of time taken to open a connection, in milliseconds
+     */
+    public long getMaximumOpenTime() {
+        return maximumOpenTime.get();
+    }
+
+    /**
+     * Get number of connections that are forecast to be in demand.
+     * @return The number of connections that are forecast to be in demand
+     */
+    public long getForecastConnections() {
+        return forecastConnections;
+    }
+
+    /**
+     * Indicate whether connection pool has been warmed up.
+     * @return true if the connection pool has been warmed up, false otherwise
+     */
+    public synchronized boolean isWarm() {
+        return (readiness != null) && (readiness.isDone() == true) && (readiness.isCompletedExceptionally() == false);
+    }
+
+    /**
+     * Get limit on the number of connections.  The limit is the maximum number of connections,
+     * unless the limit adapts to the latency of the statements that are executed on the connections.
+     * @return The limit on the number of connections
+     */
+    public long getConnectionLimit() {
+        return (concurrencyLimiter == null) ? dataSource.getMaximumConnections() : concurrencyLimiter.getLimit();
+    }
 
+    /**
+     * Get number of borrowers that were rejected by admission control.
+     * @return The number of rejected borrowers
+     */
+    public long getRejectedBorrowers() {
+        return rejectedBorrowers.get();
+    }
+
+    /**
+     * Get state of the circuit breaker that guards the opening of connections.
+     * @return The state of the circuit breaker
+     */
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Get number of times that the circuit breaker has opened.
+     * @return The number of times that the circuit breaker has opened
+     */
+    public long getCircuitTrips() {
+        return circuitBreaker.getTrips();
+    }
+
+    /**
+     * Get number of available connections that exceed the number of connections that the pool must retain.
+     * @return The number of surplus connections
+     */
+    public long getSurplusConnections() {
+        return Math.max(Math.min(availableConnectionQueue.size(), totalConnections.get() - getTargetConnections()), 0);
+    }
+
+    /**
+     * Get number of connections that were held for longer than the leak threshold, or
+     * that were still closing after being aborted.
+     * @return The number of leaked connections
+     */
+    public long getLeakedConnections() {
+        return leakedConnections.get();
+    }
+
+    /**
+     * Get hold time statistics of the call sites that borrow connections, ordered by the
+     * total amount of time for which the call sites held connections.  The statistics are
+     * only collected when leak detection is enabled, and are estimated from sampled borrows.
+     * @return The hold time statistics of the call sites
+     */
+    public List<LeakDetector.CallSite> getCallSites() {
+        return leakDetector.getCallSites();
+    }
+
+    /**
+     * Get number of connections that are waiting to be closed or are busy closing.
+     * @return The number of connections that are being retired
+     */
+    public long getRetiringConnections() {
+        return retiringConnections.get();
+    }
+
+    /**
+     * Get number of connections that had to be aborted because they failed to close in time.
+     * @return The number of aborted connections
+     */
+    public long getAbortedConnections() {
+        return abortedConnections.get();
+    }
+
+    /**
+     * Get average amount of time taken to close a connection.
+     * @return The average amount of time taken to close a connection, in milliseconds
+     */
+    public long getAverageCloseTime() {
+        return (retiredConnections.get() == 0) ? 0 : totalCloseTime.get() / retiredConnections.get();
+    }
+
+    /**
+     * Get maximum amount of time taken to close a connection.
+     * @return The maximum amount of time taken to close a connection, in milliseconds
+     */
+    public long getMaximumCloseTime() {
+        return maximumCloseTime.get();
+    }
+
     /**
      * Get number of churned connections.
      * @return The number of churned connections
@@ -163,15 +459,34 @@ public class ConnectionPool {
      * @throws SQLException if unable to get a connection
      */
     public java.sql.Connection getConnection() throws SQLException {
+        return getConnection(Priority.NORMAL);
+    }
+
+    /**
+     * Get connection to database.  Waiting borrowers are served in order of priority, and
+     * only borrowers with a high priority may take the reserved connections.
+     * @param priority The priority of the borrower
+     * @return The connection
+     * @throws SQLException if unable to get a connection
+     */
+    public java.sql.Connection getConnection(
+        final Priority priority) throws SQLException {
 
         String methodName = "getConnection";
         boolean reuse;
         Connection connection;
-        Timer timer;
+        long start;
 
         reuse = true;
 
-        connection = threadIndex.get();
+        connection = (threadAffinity == true) ? threadIndex.get() : null;
+
+        if ((connection != null) && (connection.isReclaimed() == true)) {
+
+            threadIndex.set(null);
+
+            connection = null;
+        }
 
         if (connection == null) {
 
@@ -179,24 +494,42 @@ public class ConnectionPool {
 
             connectionsSupply.decrement();
 
-            timer = Timer.ofMillis().start();
+            start = System.nanoTime();
 
             while (true) {
 
                 try {
 
-                    connection = availableConnectionQueue.remove(1, TimeUnit.MILLISECONDS);
+                    connection = availableConnectionQueue.remove(priority);
 
                     if (connection == null) {
 
+                        checkCircuit();
+
+                        if ((admissionController != null) && (admissionController.admit(getConnectionDeficit(), getActiveConnections(),
+                            (dataSource.getConnectionTimeout() * 1000) - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)) == false)) {
+
+                            rejectedBorrowers.increment();
+
+                            throw new SQLException("Rejected request for connection, because the expected wait exceeds the connection timeout.",
+                                SQLState.CONNECTION_REJECTED.value());
+                        }
+
                         demandSemaphore.release();
 
                         logger.debug(methodName, "Wait for connection to become available.");
 
-                        connection = availableConnectionQueue.remove((dataSource.getConnectionTimeout() * 1000) - timer.elapsedTime(), TimeUnit.MILLISECONDS);
+                        connection = availableConnectionQueue.remove(priority, (dataSource.getConnectionTimeout() * 1000) - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            TimeUnit.MILLISECONDS);
                     }
 
                 }
+                catch (SQLException exception) {
+
+                    connectionsSupply.increment();
+
+                    throw exception;
+                }
                 catch (Exception exception) {
 
                     connectionsSupply.increment();
@@ -207,192 +540,1149 @@ public class ConnectionPool {
                 if (connection == null) {
 
                     connectionsSupply.increment();
-
-                    throw new SQLException("Timed out waiting for connection.", SQLState.CONNECTION_FAILURE.value());
-                }
-
-                if (connection.isValid(dataSource.isValidateOnBorrow()) == false) {
-                    logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is no longer valid and is being retired.");
 
-                    connectionsSupply.decrement();
-
-                    churnedConnections.increment();
-
-                    totalConnections.decrement();
+                    if (admissionController != null) {
 
-                    retireConnectionQueue.add(connection);
+                        admissionController.recordWaitTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
+
+                    throw new SQLException("Timed out waiting for connection.", SQLState.CONNECTION_FAILURE.value());
                 }
 
-                else if (connection.isEndOfLife() == true) {
-                    logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] has reached end-of-life and is being retired.");
-
-                    connectionsSupply.decrement();
-
-                    totalConnections.decrement();
-
-                    retireConnectionQueue.add(connection);
-                }
-                else {
+                if (isBorrowable(connection) == true) {
                     break;
                 }
 
             }
 
+            if (admissionController != null) {
+
+                admissionController.recordWaitTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+
         }
 
-        connection.allocate(Thread.currentThread());
+        connection.allocate(getOwner(connection), reuse);
 
-        activeConnectionsCeiling = Math.max(totalConnections.get() - availableConnectionQueue.size(), activeConnectionsCeiling);
+        if (reuse == false) {
 
-        threadIndex.set(connection);
+            recordBorrow(connection);
+        }
+
+        if (threadAffinity == true) {
+
+            threadIndex.set(connection);
+        }
 
-        logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), ", reuse=", reuse, "] allocated.");
+        tracer.trace(logger, methodName, TraceEvent.CONNECTION_ALLOCATED, connection.getConnectionDescriptor(), reuse);
 
         return connection.getProxy();
     }
 
     /**
-     * Release connection into connection pool.
-     * @param connection The connection to release
-     * @throws SQLException if unable to release the connection
+     * Get connection to database without blocking the calling thread.  The future is completed
+     * on a thread of the connection pool's completion executor, never on the thread that releases
+     * or opens the connection, or exceptionally when no connection becomes available within the
+     * connection timeout.  The connection is never bound to a thread, so it may be released
+     * from any thread.  If the caller cancels the future, or times it out, then the connection
+     * that is eventually borrowed is returned to the pool.
+     * @param priority The priority of the borrower
+     * @return The future connection
      */
-    public void releaseConnection(
-        final Connection connection) throws SQLException {
+    public CompletableFuture<java.sql.Connection> getConnectionAsync(
+        final Priority priority) {
 
-        String methodName = "releaseConnection";
+        String methodName = "getConnectionAsync";
+        CompletableFuture<Connection> borrow;
+        CompletableFuture<java.sql.Connection> result;
 
-        threadIndex.set(null);
+        connectionsSupply.decrement();
 
-        connection.release(Thread.currentThread());
+        result = new CompletableFuture<java.sql.Connection>();
 
-        if (connection.isValid(false) == false) {
-            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is no longer valid and is being retired.");
+        borrow = borrowAsync(priority, System.currentTimeMillis() + (dataSource.getConnectionTimeout() * 1000L));
 
-            churnedConnections.increment();
+        borrow.whenComplete((connection, exception) -> {
 
-            totalConnections.decrement();
+            if (exception != null) {
 
-            retireConnectionQueue.add(connection);
-        }
-        else {
+                result.completeExceptionally(exception);
 
-            connectionsSupply.increment();
+                return;
+            }
 
-            availableConnectionQueue.add(connection);
-
-            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] released.");
-        }
-
+            connection.allocate(connection, false);
+
+            recordBorrow(connection);
+
+            tracer.trace(logger, methodName, TraceEvent.CONNECTION_ALLOCATED, connection.getConnectionDescriptor(), false);
+
+            if (result.complete(connection.getProxy()) == false) {
+
+                try {
+
+                    releaseConnection(connection);
+                }
+                catch (Exception releaseException) {
+                    logger.error(methodName, "Failed to release connection: ", releaseException.getMessage(), releaseException);
+                }
+
+            }
+
+        });
+
+        return result;
     }
-
+
     /**
-     * Open new connections.
+     * Borrow connection from queue without blocking the calling thread.  Connections that
+     * are not fit to be borrowed are retired, and another connection is borrowed instead.
+     * The connection is checked on the completion executor, so that the thread that hands
+     * the connection over does not validate it or run the continuations of the borrower.
+     * @param priority The priority of the borrower
+     * @param deadline The time by which a connection must be borrowed
+     * @return The future connection
      */
-    protected void openNewConnections() {
+    private CompletableFuture<Connection> borrowAsync(
+        final Priority priority,
+        final long deadline) {
 
-        String methodName = "openNewConnections";
-        long remainingBackoff;
-        Connection connection;
+        CompletableFuture<Connection> future;
 
-        while (ServiceState.isActive() == true) {
-
-            try {
+        try {
 
-                demandSemaphore.acquire();
+            checkCircuit();
+        }
+        catch (SQLException exception) {
 
-                while (((connectionsSupply.get() < 0)
-                    || (totalConnections.get() < dataSource.getMinimumConnections()))
-                    && (totalConnections.get() < dataSource.getMaximumConnections())) {
+            connectionsSupply.increment();
 
-                    if (lastException != null) {
+            return failedFuture(exception);
+        }
 
-                        remainingBackoff = backoffPeriod - (System.currentTimeMillis() - lastExceptionTime);
+        future = availableConnectionQueue.removeAsync(priority, deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
 
-                        if (remainingBackoff > 0) {
-                            logger.debug(methodName, "Backing off for ", (remainingBackoff / 1000), " seconds.");
+        if (future.isDone() == false) {
 
-                            ThreadControl.sleep(remainingBackoff, TimeUnit.MILLISECONDS);
-
-                            continue;
-                        }
-
-                    }
-
-                    try {
+            demandSemaphore.release();
+        }
 
-                        connection = new Connection(dataSource, this);
-                        connection.open();
+        return future.handleAsync((connection, exception) -> {
 
-                        totalConnections.increment();
+            if (exception != null) {
 
-                        connectionsSupply.increment();
+                connectionsSupply.increment();
 
-                        availableConnectionQueue.add(connection);
+                return failedFuture((exception instanceof CompletionException) ? exception.getCause() : exception);
+            }
 
-                        lastException = null;
+            return (isBorrowable(connection) == true) ? CompletableFuture.completedFuture(connection) : borrowAsync(priority, deadline);
+        }, completionExecutor).thenCompose(borrowed -> borrowed);
+    }
 
-                        backoffPeriod = 0;
-                    }
-                    catch (Exception exception) {
-                        logger.error(methodName, "Failed to open connection: ", exception.getMessage(), exception);
+    /**
+     * Create future that has failed to get a connection.
+     * @param exception The cause of the failure
+     * @return The failed future
+     */
+    private CompletableFuture<Connection> failedFuture(
+        final Throwable exception) {
 
-                        captureException(exception);
+        CompletableFuture<Connection> future;
 
-                        backoffPeriod = (backoffPeriod == 0) ? dataSource.getBackoffPeriod() : Clamp.clampLong(
-                            (long) (backoffPeriod * dataSource.getBackoffMultiplier()), 0, dataSource.getBackoffLimit());
-                    }
-
-                }
-
-            }
-            catch (Exception exception) {
-                logger.error(methodName, "Failed to open new connections: ", exception.getMessage(), exception);
-            }
+        future = new CompletableFuture<Connection>();
+
+        future.completeExceptionally((exception instanceof SQLException) ? exception
+            : (exception instanceof TimeoutException) ? new SQLException("Timed out waiting for connection.", SQLState.CONNECTION_FAILURE.value())
+            : new SQLException("Failed to get connection: " + exception.getMessage(), SQLState.CONNECTION_FAILURE.value(), exception));
+
+        return future;
+    }
+
+    /**
+     * Check whether borrower must fail fast, because the circuit breaker is open
+     * and the pool has no connections that may still be released.
+     * @throws SQLException if the borrower must fail fast
+     */
+    private void checkCircuit() throws SQLException {
+
+        if ((circuitBreaker.isClosed() == false) && (totalConnections.get() == 0)) {
+            throw new SQLException("Failed to get connection, because the circuit breaker is open: "
+                + ((lastException == null) ? "unable to open connections." : lastException.getMessage()),
+                SQLState.CONNECTION_FAILURE.value(), lastException);
+        }
+
+    }
+
+    /**
+     * Check whether connection that was taken from the queue is fit to be borrowed.  A connection
+     * that is no longer valid, that is connected to a previous URL, or that has reached end-of-life
+     * is retired, in which case the borrower must take another connection.
+     * @param connection The connection
+     * @return true if the connection may be borrowed, false if the connection was retired
+     */
+    private boolean isBorrowable(
+        final Connection connection) {
+
+        String methodName = "isBorrowable";
+
+        if (connection.isValid(isValidationDue(connection)) == false) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is no longer valid and is being retired.");
+
+            connectionsSupply.decrement();
+
+            churnedConnections.increment();
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+
+            dataSource.connectionFailed();
+
+            return false;
+        }
+
+        if (connection.isStale() == true) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is connected to a previous URL and is being retired.");
+
+            connectionsSupply.decrement();
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+
+            return false;
+        }
+
+        if (connection.isEndOfLife() == true) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] has reached end-of-life and is being retired.");
+
+            connectionsSupply.decrement();
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Record borrow of connection for leak detection and demand forecasting.
+     * @param connection The connection
+     */
+    private void recordBorrow(
+        final Connection connection) {
+
+        if (dataSource.getLeakThreshold() > 0) {
+
+            connection.setBorrowStack(leakDetector.sample());
+        }
+
+        if (demandForecaster != null) {
+
+            demandForecaster.record(totalConnections.get() - availableConnectionQueue.size());
+        }
+
+    }
+
+    /**
+     * Release connection into connection pool.
+     * @param connection The connection to release
+     * @throws SQLException if unable to release the connection
+     */
+    public void releaseConnection(
+        final Connection connection) throws SQLException {
+
+        String methodName = "releaseConnection";
+
+        if ((threadAffinity == true) && (threadIndex.get() == connection)) {
+
+            threadIndex.set(null);
+        }
+
+        if (connection.release(getOwner(connection)) == false) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] has already been reclaimed.");
+
+            return;
+        }
+
+        if (connection.getBorrowStack() != null) {
+
+            leakDetector.record(connection.getBorrowStack(), connection.getLastReturnTime() - connection.getLastBorrowTime());
+        }
+
+        if (admissionController != null) {
+
+            admissionController.recordHoldTime(System.currentTimeMillis() - connection.getLastBorrowTime());
+        }
+
+        if (connection.isValid(false) == false) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is no longer valid and is being retired.");
+
+            churnedConnections.increment();
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+        }
+        else if (connection.isStale() == true) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is connected to a previous URL and is being retired.");
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+        }
+        else if (connection.isEndOfLife() == true) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] has reached end-of-life and is being retired.");
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+        }
+        else if (totalConnections.get() > getConnectionLimit()) {
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] exceeds the connection limit and is being retired.");
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+        }
+        else {
+
+            connectionsSupply.increment();
+
+            availableConnectionQueue.setLastConnection(connection);
+
+            availableConnectionQueue.add(connection);
+
+            tracer.trace(logger, methodName, TraceEvent.CONNECTION_RELEASED, connection.getConnectionDescriptor());
+        }
+
+    }
+
+    /**
+     * Record latency of statement execution.
+     * @param latency The latency, in nanoseconds
+     */
+    public void recordLatency(
+        final long latency) {
+
+        if (concurrencyLimiter != null) {
+
+            concurrencyLimiter.record(latency, getActiveConnections());
+        }
+
+    }
+
+    /**
+     * Check whether connection must be validated on borrow, which is only when validation on
+     * borrow is enabled and the connection has been idle for longer than the validation threshold.
+     * @param connection The connection
+     * @return true if the connection must be validated, false otherwise
+     */
+    private boolean isValidationDue(
+        final Connection connection) {
+        return (dataSource.isValidateOnBorrow() == true)
+            && (System.currentTimeMillis() - connection.getLastActivityTime() >= dataSource.getValidationThreshold());
+    }
+
+    /**
+     * Get owner of connection.  With thread affinity, the connection is owned by the thread
+     * that borrowed it and is reused if the same thread borrows again before releasing it.
+     * Without thread affinity, or if the connection was borrowed asynchronously, the connection
+     * owns itself until it is released, so that it may be released from a different thread
+     * than the one that borrowed it.
+     * @param connection The connection
+     * @return The owner of the connection
+     */
+    private Object getOwner(
+        final Connection connection) {
+        return ((threadAffinity == true) && (connection.isDetached() == false)) ? Thread.currentThread() : connection;
+    }
+
+    /**
+     * Open new connections.  Several threads may open new connections concurrently,
+     * in which case each thread reserves a connection before opening it, so that the
+     * threads together do not open more connections than the demand requires.
+     */
+    protected void openNewConnections() {
+
+        String methodName = "openNewConnections";
+        long remainingBackoff;
+        boolean probe;
+        Connection connection;
+
+        while (ServiceState.isActive() == true) {
+
+            try {
+
+                demandSemaphore.acquire();
+
+                while (isDemandPending() == true) {
+
+                    remainingBackoff = circuitBreaker.getRemainingBackoff();
+
+                    if (remainingBackoff > 0) {
+                        logger.debug(methodName, "Backing off for ", (remainingBackoff / 1000), " seconds.");
+
+                        ThreadControl.sleep(remainingBackoff, TimeUnit.MILLISECONDS);
+
+                        continue;
+                    }
+
+                    if (reserveConnection() == false) {
+                        break;
+                    }
+
+                    probe = false;
+
+                    if (circuitBreaker.isClosed() == false) {
+
+                        if (circuitBreaker.tryProbe() == false) {
+
+                            releaseBudget();
+
+                            pendingConnections.decrement();
+
+                            break;
+                        }
+
+                        probe = true;
+
+                        circuitStateChanged(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN);
+                    }
+
+                    if ((probe == false) && (isDemandPending() == true)) {
+
+                        demandSemaphore.release();
+                    }
+
+                    try {
+
+                        connection = openConnection();
+
+                        totalConnections.increment();
+
+                        connectionsSupply.increment();
+
+                        availableConnectionQueue.add(connection);
+
+                        lastException = null;
+
+                        if (circuitStateChanged(circuitBreaker.recordSuccess(), CircuitBreaker.State.CLOSED) == true) {
+
+                            for (int i = 0; i < dataSource.getOpenConcurrency(); i++) {
+                                demandSemaphore.release();
+                            }
+
+                        }
+
+                    }
+                    catch (Exception exception) {
+                        logger.error(methodName, "Failed to open connection: ", exception.getMessage(), exception);
+
+                        captureException(exception);
+
+                        releaseBudget();
+
+                        dataSource.connectionFailed();
+
+                        circuitStateChanged(circuitBreaker.recordFailure(), CircuitBreaker.State.OPEN);
+                    }
+                    finally {
+
+                        pendingConnections.decrement();
+                    }
+
+                }
+
+            }
+            catch (Exception exception) {
+                logger.error(methodName, "Failed to open new connections: ", exception.getMessage(), exception);
+            }
 
         }
 
     }
-
+
+    /**
+     * Open connection and record the amount of time taken to open it.  The warm-up
+     * statements are prepared after the time is taken, so that they are not counted.
+     * @return The connection
+     * @throws Exception if unable to open the connection
+     */
+    private Connection openConnection() throws Exception {
+
+        Timer timer;
+        Connection connection;
+        long duration;
+
+        timer = Timer.ofMillis().start();
+
+        connection = new Connection(dataSource, this);
+        connection.open();
+
+        duration = timer.elapsedTime();
+
+        if (dataSource.getWarmupStatements().isEmpty() == false) {
+
+            connection.prepareStatements(dataSource.getWarmupStatements());
+        }
+
+        openedConnections.increment();
+
+        totalOpenTime.addAndGet(duration);
+
+        maximumOpenTime.accumulateAndGet(duration, Math::max);
+
+        connections.add(connection);
+
+        return connection;
+    }
+
+    /**
+     * Report transition of the circuit breaker to the data source.
+     * @param previousState The previous state of the circuit breaker
+     * @param state The new state of the circuit breaker
+     * @return true if the state changed, false otherwise
+     */
+    private boolean circuitStateChanged(
+        final CircuitBreaker.State previousState,
+        final CircuitBreaker.State state) {
+
+        String methodName = "circuitStateChanged";
+
+        if (previousState == state) {
+            return false;
+        }
+
+        if (state == CircuitBreaker.State.OPEN) {
+            logger.warn(methodName, "Connection pool [", poolId, "] circuit breaker changed from ", previousState, " to ", state, ".");
+        }
+        else {
+            logger.info(methodName, "Connection pool [", poolId, "] circuit breaker changed from ", previousState, " to ", state, ".");
+        }
+
+        dataSource.circuitStateChanged(previousState, state);
+
+        return true;
+    }
+
+    /**
+     * Check whether there is demand for connections that is not yet covered
+     * by the connections that are busy opening.
+     * @return true if there is uncovered demand, false otherwise
+     */
+    private boolean isDemandPending() {
+
+        long pending;
+        long total;
+
+        pending = pendingConnections.get();
+
+        total = totalConnections.get() + pending;
+
+        return ((connectionsSupply.get() + pending < dataSource.getReservedConnections())
+            || (total < getTargetConnections()))
+            && (total < getConnectionLimit());
+    }
+
+    /**
+     * Get number of connections that the pool must retain, which is the minimum number
+     * of connections, the number of reserved connections, or the number of connections
+     * that are forecast to be in demand.
+     * @return The number of connections that the pool must retain
+     */
+    private long getTargetConnections() {
+        return Math.min(Math.max(Math.max(Math.max(dataSource.getMinimumConnections(), dataSource.getReservedConnections()),
+            forecastConnections), warmupConnections), getConnectionLimit());
+    }
+
+    /**
+     * Reserve connection to open, if there is still uncovered demand.
+     * @return true if a connection was reserved, false otherwise
+     */
+    private synchronized boolean reserveConnection() {
+
+        if (isDemandPending() == false) {
+            return false;
+        }
+
+        if ((connectionBudget != null) && (connectionBudget.acquire(this) == false)) {
+            return false;
+        }
+
+        pendingConnections.increment();
+
+        return true;
+    }
+
+    /**
+     * Reserve replacement connection to open.  The replacement is allowed to take the pool one
+     * connection over its limit, to overlap with the connection that it replaces, but not more.
+     * @return true if a replacement was reserved, false otherwise
+     */
+    private synchronized boolean reserveReplacement() {
+
+        if (totalConnections.get() + pendingConnections.get() > getConnectionLimit()) {
+            return false;
+        }
+
+        if ((connectionBudget != null) && (connectionBudget.acquire(this) == false)) {
+            return false;
+        }
+
+        pendingConnections.increment();
+
+        return true;
+    }
+
+    /**
+     * Warm up connection pool.  The warm-up connections are opened in parallel, alongside the
+     * regular openers, and are retained until they are pruned when they become inactive.  The
+     * returned future is completed when the warm-up connections are available, or completed
+     * exceptionally when the warm-up connections fail to open, in which case the connection
+     * pool may be warmed up again.
+     * @return The future that is completed when the connection pool is warm
+     */
+    public synchronized CompletableFuture<Void> warmUp() {
+
+        String methodName = "warmUp";
+        long threads;
+
+        if ((readiness != null) && ((readiness.isDone() == false) || (readiness.isCompletedExceptionally() == false))) {
+            return readiness;
+        }
+
+        readiness = new CompletableFuture<Void>();
+
+        warmupConnections = Math.min(dataSource.getWarmupConnections(), getConnectionLimit());
+
+        threads = Math.min(warmupConnections - totalConnections.get(), dataSource.getWarmupConcurrency());
+
+        if (threads <= 0) {
+
+            completeWarmUp();
+
+            return readiness;
+        }
+
+        logger.info(methodName, "Connection pool [", poolId, "] is warming up ", warmupConnections, " connections.");
+
+        warmupThreads.set((int) threads);
+
+        for (int i = 0; i < threads; i++) {
+
+            DaemonThread.create(() -> warmUpConnections());
+        }
+
+        return readiness;
+    }
+
+    /**
+     * Open warm-up connections until the connection pool has been warmed up.  The warm-up stops
+     * when the circuit breaker opens, after which the regular openers take over.
+     */
+    private void warmUpConnections() {
+
+        String methodName = "warmUpConnections";
+        Connection connection;
+
+        try {
+
+            while ((circuitBreaker.isClosed() == true) && (reserveConnection() == true)) {
+
+                try {
+
+                    connection = openConnection();
+
+                    totalConnections.increment();
+
+                    connectionsSupply.increment();
+
+                    availableConnectionQueue.add(connection);
+
+                    lastException = null;
+
+                    if (circuitStateChanged(circuitBreaker.recordSuccess(), CircuitBreaker.State.CLOSED) == true) {
+
+                        for (int i = 0; i < dataSource.getOpenConcurrency(); i++) {
+                            demandSemaphore.release();
+                        }
+
+                    }
+
+                }
+                catch (Exception exception) {
+                    logger.error(methodName, "Failed to open connection: ", exception.getMessage(), exception);
+
+                    captureException(exception);
+
+                    releaseBudget();
+
+                    dataSource.connectionFailed();
+
+                    circuitStateChanged(circuitBreaker.recordFailure(), CircuitBreaker.State.OPEN);
+                }
+                finally {
+
+                    pendingConnections.decrement();
+                }
+
+            }
+
+        }
+        finally {
+
+            if (warmupThreads.decrementAndGet() == 0) {
+
+                completeWarmUp();
+            }
+
+        }
+
+    }
+
+    /**
+     * Complete warm-up of connection pool.  The warm-up connections stop counting towards the
+     * number of connections that the pool must retain, so that they may be pruned.
+     */
+    private synchronized void completeWarmUp() {
+
+        String methodName = "completeWarmUp";
+        long target;
+
+        target = warmupConnections;
+
+        warmupConnections = 0;
+
+        if (totalConnections.get() >= target) {
+            logger.info(methodName, "Connection pool [", poolId, "] is warm: total=", totalConnections.get(),
+                ", averageOpenTime=", getAverageOpenTime(), " ms.");
+
+            readiness.complete(null);
+        }
+        else {
+            logger.warn(methodName, "Connection pool [", poolId, "] failed to warm up: total=", totalConnections.get(), ", target=", target, ".");
+
+            readiness.completeExceptionally((lastException != null) ? lastException
+                : new SQLException("Failed to warm up connection pool.", SQLState.CONNECTION_FAILURE.value()));
+
+            resizePool();
+        }
+
+    }
+
+    /**
+     * Prune connections that have been idle for longer than the inactivity timeout.  Borrowers
+     * take the most recently used connections first, so surplus connections sink to the tail
+     * of the queue and expire individually.  The pruner sleeps until the least recently used
+     * connection is due to expire, but no longer than the prune interval.
+     */
+    public void pruneExpiredConnections() {
+
+        String methodName = "pruneExpiredConnections";
+        Connection connection;
+        long oldestReturnTime;
+        long delay;
+
+        while (ServiceState.isActive() == true) {
+
+            try {
+
+                if ((dataSource.getInactivityTimeout() == 0) || (dataSource.getPruneInterval() == 0)) {
+
+                    ThreadControl.wait(this, DISABLED_WAIT, TimeUnit.MILLISECONDS);
+
+                    continue;
+                }
+
+                while (totalConnections.get() > getTargetConnections()) {
+
+                    connection = availableConnectionQueue.removeIdle(System.currentTimeMillis() - dataSource.getInactivityTimeout());
+
+                    if (connection == null) {
+                        break;
+                    }
+
+                    logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] has been idle for ",
+                        ((System.currentTimeMillis() - connection.getLastReturnTime()) / 1000), " seconds and is being retired.");
+
+                    connectionsSupply.decrement();
+
+                    totalConnections.decrement();
+
+                    retireConnection(connection);
+                }
+
+                oldestReturnTime = availableConnectionQueue.getOldestReturnTime();
+
+                delay = ((oldestReturnTime == 0) || (totalConnections.get() <= getTargetConnections())) ? dataSource.getPruneInterval()
+                    : oldestReturnTime + dataSource.getInactivityTimeout() - System.currentTimeMillis();
+
+                ThreadControl.wait(this, Clamp.clampLong(delay, 1000, dataSource.getPruneInterval()), TimeUnit.MILLISECONDS);
+            }
+            catch (Exception exception) {
+                logger.error(methodName, "Failed to prune expired connections: ", exception.getMessage(), exception);
+            }
+
+        }
+
+    }
+
+    /**
+     * Replace connections shortly before they reach end-of-life.  The replacement is opened and
+     * made available before the connection that it replaces is retired, so that borrowers do
+     * not have to wait for a new connection to open when connections reach end-of-life.
+     */
+    private void renewConnections() {
+
+        String methodName = "renewConnections";
+        long renewalLead;
+        long nextRenewal;
+        long remainingLifetime;
+
+        while (ServiceState.isActive() == true) {
+
+            try {
+
+                renewalLead = Math.max(5 * 1000, maximumOpenTime.get() * 2);
+
+                nextRenewal = DISABLED_WAIT;
+
+                for (Connection connection : connections) {
+
+                    if (connection.isReplaced() == true) {
+                        continue;
+                    }
+
+                    remainingLifetime = connection.getRemainingLifetime();
+
+                    if ((remainingLifetime <= renewalLead) || (connection.isOutdated() == true)) {
+
+                        renewConnection(connection);
+                    }
+                    else {
+
+                        nextRenewal = Math.min(nextRenewal, remainingLifetime - renewalLead);
+                    }
+
+                }
+
+                ThreadControl.wait(this, Clamp.clampLong(nextRenewal, 1000, Long.MAX_VALUE), TimeUnit.MILLISECONDS);
+            }
+            catch (Exception exception) {
+                logger.error(methodName, "Failed to renew connections: ", exception.getMessage(), exception);
+            }
+
+        }
+
+    }
+
+    /**
+     * Open replacement for connection that is about to reach end-of-life.  The connection is
+     * retired immediately if it is available, otherwise it is retired when it is released.
+     * The replacement may take the pool one connection over its limit while the connection
+     * that it replaces is still open, so that a pool at its limit is renewed too.  No replacement
+     * is opened if the circuit breaker is not closed, or if the pool is already over its limit,
+     * in which case the connection is retired when it reaches end-of-life.  An outdated
+     * connection is then retired immediately if it is available, and replaced on demand.
+     * @param connection The connection to replace
+     */
+    private void renewConnection(
+        final Connection connection) {
+
+        String methodName = "renewConnection";
+        Connection replacement;
+
+        if (circuitBreaker.isClosed() == false) {
+            return;
+        }
+
+        if (reserveReplacement() == false) {
+
+            if ((connection.isOutdated() == true) && (availableConnectionQueue.remove(connection) == true)) {
+                logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is outdated and is being retired.");
+
+                connectionsSupply.decrement();
+
+                totalConnections.decrement();
+
+                retireConnection(connection);
+
+                resizePool();
+            }
+
+            return;
+        }
+
+        try {
+
+            replacement = openConnection();
+
+            totalConnections.increment();
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Failed to open replacement connection: ", exception.getMessage(), exception);
+
+            captureException(exception);
+
+            releaseBudget();
+
+            circuitStateChanged(circuitBreaker.recordFailure(), CircuitBreaker.State.OPEN);
+
+            return;
+        }
+        finally {
+
+            pendingConnections.decrement();
+        }
+
+        logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] replaced by connection [",
+            replacement.getConnectionDescriptor(), "] ahead of end-of-life.");
+
+        connection.markReplaced();
+
+        connectionsSupply.increment();
+
+        availableConnectionQueue.add(replacement);
+
+        if (availableConnectionQueue.remove(connection) == true) {
+
+            connectionsSupply.decrement();
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+        }
+
+    }
+
     /**
-     * Periodically prune expired connections.
+     * Validate available connections that have been idle for longer than the keepalive interval.
+     * This detects connections that have failed while idle before they are borrowed, and keeps
+     * firewalls and NAT devices from silently dropping idle connections.  The connections are
+     * validated in parallel, and only a few connections are taken from the queue at a time,
+     * so that a slow validation does not hold up the others or hold much of the pool capacity.
      */
-    public void pruneExpiredConnections() {
+    private void keepConnectionsAlive() {
+
+        String methodName = "keepConnectionsAlive";
+        long nextKeepalive;
+        long idleTime;
+        List<CompletableFuture<Void>> validations;
 
-        String methodName = "pruneExpiredConnections";
-        Connection connection;
+        while (ServiceState.isActive() == true) {
 
-        while ((ServiceState.isActive() == true) && (dataSource.getInactivityTimeout() > 0) && (dataSource.getPruneInterval() > 0)) {
-
             try {
 
-                if ((System.currentTimeMillis() - lastPruneTime) > dataSource.getInactivityTimeout()) {
+                if (dataSource.getKeepaliveInterval() == 0) {
+
+                    ThreadControl.wait(this, DISABLED_WAIT, TimeUnit.MILLISECONDS);
+
+                    continue;
+                }
 
-                    lastPruneTime = System.currentTimeMillis();
+                nextKeepalive = dataSource.getKeepaliveInterval();
+
+                validations = new ArrayList<CompletableFuture<Void>>(KEEPALIVE_CONCURRENCY);
+
+                for (Connection connection : connections) {
 
-                    while (totalConnections.get() > Math.max(dataSource.getMinimumConnections(), activeConnectionsCeiling)) {
+                    idleTime = System.currentTimeMillis() - connection.getLastActivityTime();
 
-                        connection = availableConnectionQueue.remove(1, TimeUnit.MILLISECONDS);
+                    if (idleTime < dataSource.getKeepaliveInterval()) {
 
-                        if (connection == null) {
-                            break;
+                        nextKeepalive = Math.min(nextKeepalive, dataSource.getKeepaliveInterval() - idleTime);
+                    }
+                    else if ((connection.isValidationSupported() == true) && (availableConnectionQueue.remove(connection) == true)) {
+
+                        validations.add(CompletableFuture.runAsync(() -> keepConnectionAlive(connection), keepaliveExecutor));
+
+                        if (validations.size() >= KEEPALIVE_CONCURRENCY) {
+
+                            CompletableFuture.allOf(validations.toArray(new CompletableFuture[0])).join();
+
+                            validations.clear();
                         }
 
-                        logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] has expired and is being retired.");
+                    }
+
+                }
+
+                CompletableFuture.allOf(validations.toArray(new CompletableFuture[0])).join();
+
+                ThreadControl.wait(this, Clamp.clampLong(nextKeepalive, 1000, Long.MAX_VALUE), TimeUnit.MILLISECONDS);
+            }
+            catch (Exception exception) {
+                logger.error(methodName, "Failed to keep connections alive: ", exception.getMessage(), exception);
+            }
+
+        }
+
+    }
+
+    /**
+     * Validate connection that has been taken from the queue of available connections,
+     * and return it to the queue if it is still valid, or retire it otherwise.
+     * @param connection The connection
+     */
+    private void keepConnectionAlive(
+        final Connection connection) {
+
+        String methodName = "keepConnectionAlive";
+
+        if (connection.isValid(true) == true) {
+
+            availableConnectionQueue.restore(connection);
+
+            return;
+        }
+
+        logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] failed keepalive validation and is being retired.");
+
+        connectionsSupply.decrement();
+
+        churnedConnections.increment();
+
+        totalConnections.decrement();
+
+        retireConnection(connection);
+
+        dataSource.connectionFailed();
+
+        resizePool();
+    }
+
+    /**
+     * Report connections that have been held for longer than the leak threshold, together
+     * with the stack trace of the borrower if the borrow was sampled, and reclaim the
+     * connections if so configured.
+     */
+    private void detectLeaks() {
+
+        String methodName = "detectLeaks";
+        long nextDetection;
+        long holdTime;
+
+        while (ServiceState.isActive() == true) {
+
+            try {
+
+                if (dataSource.getLeakThreshold() == 0) {
+
+                    ThreadControl.wait(this, DISABLED_WAIT, TimeUnit.MILLISECONDS);
+
+                    continue;
+                }
+
+                nextDetection = dataSource.getLeakThreshold();
+
+                for (Connection connection : connections) {
+
+                    if ((connection.isAllocated() == false) || (connection.isReclaimed() == true)) {
+                        continue;
+                    }
+
+                    holdTime = System.currentTimeMillis() - connection.getLastBorrowTime();
 
-                        connectionsSupply.decrement();
+                    if (holdTime < dataSource.getLeakThreshold()) {
 
-                        totalConnections.decrement();
+                        nextDetection = Math.min(nextDetection, dataSource.getLeakThreshold() - holdTime);
+                    }
+                    else if (connection.markLeakReported() == true) {
 
-                        retireConnectionQueue.add(connection);
+                        reportLeak(connection, holdTime);
                     }
 
-                    activeConnectionsCeiling = 0;
                 }
 
-                ThreadControl.wait(this, dataSource.getPruneInterval(), TimeUnit.MILLISECONDS);
+                ThreadControl.wait(this, Clamp.clampLong(nextDetection, 1000, Long.MAX_VALUE), TimeUnit.MILLISECONDS);
             }
             catch (Exception exception) {
-                logger.error(methodName, "Failed to prune expired connections: ", exception.getMessage(), exception);
+                logger.error(methodName, "Failed to detect leaked connections: ", exception.getMessage(), exception);
+            }
+
+        }
+
+    }
+
+    /**
+     * Report connection that has been held for longer than the leak threshold, and
+     * reclaim the connection if so configured.
+     * @param connection The connection
+     * @param holdTime The amount of time for which the connection has been held, in milliseconds
+     */
+    private void reportLeak(
+        final Connection connection,
+        final long holdTime) {
+
+        String methodName = "reportLeak";
+        Throwable borrowStack;
+
+        leakedConnections.increment();
+
+        borrowStack = connection.getBorrowStack();
+
+        if (borrowStack == null) {
+            logger.warn(methodName, "Connection [", connection.getConnectionDescriptor(), "] has been held for ", (holdTime / 1000),
+                " seconds and may have leaked.  The borrow was not sampled.");
+        }
+        else {
+            logger.warn(methodName, "Connection [", connection.getConnectionDescriptor(), "] has been held for ", (holdTime / 1000),
+                " seconds by ", LeakDetector.getCallSite(borrowStack), " and may have leaked.", borrowStack);
+        }
+
+        if ((dataSource.isLeakReclaim() == true) && (connection.reclaim() == true)) {
+            logger.warn(methodName, "Connection [", connection.getConnectionDescriptor(), "] is being reclaimed.");
+
+            if (borrowStack != null) {
+
+                leakDetector.record(borrowStack, holdTime);
+            }
+
+            connection.abort(abortExecutor);
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+
+            demandSemaphore.release();
+        }
+
+    }
+
+    /**
+     * Periodically forecast the demand for connections, and open connections
+     * ahead of a surge in demand that has been seen at the same time of day.
+     */
+    private void forecastDemand() {
+
+        String methodName = "forecastDemand";
+        long forecast;
+
+        while (ServiceState.isActive() == true) {
+
+            try {
+
+                demandForecaster.update();
+
+                forecast = demandForecaster.getForecast();
+
+                if (forecast != forecastConnections) {
+                    logger.debug(methodName, "Connection pool [", poolId, "] forecast demand changed from ", forecastConnections, " to ", forecast, " connections.");
+
+                    forecastConnections = forecast;
+
+                    resizePool();
+                }
+
+                ThreadControl.sleep(Math.min(demandForecaster.getRemainingTime(), 60 * 1000), TimeUnit.MILLISECONDS);
+            }
+            catch (Exception exception) {
+                logger.error(methodName, "Failed to forecast demand: ", exception.getMessage(), exception);
             }
 
         }
@@ -400,7 +1690,83 @@ public class ConnectionPool {
     }
 
     /**
-     * Retire connections.
+     * Queue connection to be retired.
+     * @param connection The connection
+     */
+    private void retireConnection(
+        final Connection connection) {
+
+        retiringConnections.increment();
+
+        retireConnectionQueue.add(connection);
+
+        releaseBudget();
+    }
+
+    /**
+     * Return permit to the connection budget, if the pool shares a connection budget.
+     */
+    private void releaseBudget() {
+
+        if (connectionBudget != null) {
+
+            connectionBudget.release();
+        }
+
+    }
+
+    /**
+     * Retire one surplus idle connection, so that its capacity may be lent to another
+     * pool that shares the connection budget.
+     * @return true if a connection was retired, false if the pool has no surplus
+     */
+    boolean releaseSurplus() {
+
+        String methodName = "releaseSurplus";
+        Connection connection;
+
+        if (getSurplusConnections() <= 0) {
+            return false;
+        }
+
+        connection = availableConnectionQueue.removeLast();
+
+        if (connection == null) {
+            return false;
+        }
+
+        logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] is surplus and is being retired to lend capacity to another pool.");
+
+        connectionsSupply.decrement();
+
+        totalConnections.decrement();
+
+        retireConnection(connection);
+
+        return true;
+    }
+
+    /**
+     * Notify pool that capacity has been returned to the connection budget, so that the
+     * pool may open connections if it is in deficit.
+     */
+    void budgetAvailable() {
+
+        if ((getConnectionDeficit() > 0) || (totalConnections.get() < getTargetConnections())) {
+
+            demandSemaphore.release();
+        }
+
+    }
+
+    /**
+     * Retire connections.  Several threads may retire connections concurrently, and each
+     * connection is given the close timeout to close, after which it is aborted, so that
+     * connections to an unreachable host do not hold up the retirement of other connections.
+     * The closes run on a fixed executor with two threads for each retirer, so that the number
+     * of threads stays bounded when connections fail to close during an outage.  The aborts run
+     * on a separate executor that never queues them, so that an abort can not wait behind a
+     * close that is blocked.
      */
     private void retireConnections() {
 
@@ -413,7 +1779,15 @@ public class ConnectionPool {
 
                 connection = retireConnectionQueue.remove();
 
-                connection.close();
+                try {
+
+                    closeConnection(connection);
+                }
+                finally {
+
+                    retiringConnections.decrement();
+                }
+
             }
             catch (Exception exception) {
                 logger.error(methodName, "Failed to retire connections: ", exception.getMessage(), exception);
@@ -422,7 +1796,175 @@ public class ConnectionPool {
         }
 
     }
+
+    /**
+     * Close connection, and abort the connection if it fails to close within the close timeout.
+     * If the close is still blocked once the connection has been aborted, then the connection
+     * is treated as leaked, and the retirer moves on without waiting for it.
+     * @param connection The connection
+     * @throws Exception if unable to close the connection
+     */
+    private void closeConnection(
+        final Connection connection) throws Exception {
+
+        String methodName = "closeConnection";
+        CompletableFuture<Void> closing;
+        Timer timer;
+        long duration;
+
+        connections.remove(connection);
+
+        timer = Timer.ofMillis().start();
+
+        closing = CompletableFuture.runAsync(() -> connection.close(), closeExecutor);
+
+        try {
+
+            closing.get(dataSource.getCloseTimeout(), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException exception) {
+            logger.warn(methodName, "Connection [", connection.getConnectionDescriptor(), "] failed to close within ",
+                (dataSource.getCloseTimeout() / 1000), " seconds and is being aborted.");
+
+            abortedConnections.increment();
+
+            connection.abort(abortExecutor);
+
+            if (closing.isDone() == false) {
+                logger.warn(methodName, "Connection [", connection.getConnectionDescriptor(), "] is still closing after being aborted and has leaked.");
+
+                leakedConnections.increment();
+            }
+
+        }
+
+        duration = timer.elapsedTime();
+
+        retiredConnections.increment();
+
+        totalCloseTime.addAndGet(duration);
+
+        maximumCloseTime.accumulateAndGet(duration, Math::max);
+    }
 
+    /**
+     * Drain connections that are connected to a previous URL.  Available connections are
+     * retired immediately, while active connections are retired when they are released.
+     * The backoff is reset so that connections to the current URL are opened immediately.
+     */
+    public void drainConnections() {
+
+        String methodName = "drainConnections";
+        List<Connection> connections;
+        Connection connection;
+
+        connections = new ArrayList<Connection>();
+
+        while ((connection = availableConnectionQueue.removeLast()) != null) {
+            connections.add(connection);
+        }
+
+        for (Connection drained : connections) {
+
+            if (drained.isStale() == true) {
+                logger.debug(methodName, "Connection [", drained.getConnectionDescriptor(), "] is connected to a previous URL and is being retired.");
+
+                connectionsSupply.decrement();
+
+                totalConnections.decrement();
+
+                retireConnection(drained);
+            }
+            else {
+
+                availableConnectionQueue.add(drained);
+            }
+
+        }
+
+        lastException = null;
+
+        circuitStateChanged(circuitBreaker.reset(), CircuitBreaker.State.CLOSED);
+
+        demandSemaphore.release();
+    }
+
+    /**
+     * Apply the current configuration of the data source to the connection pool.  Connections in
+     * excess of a lower limit are retired, immediately if they are available, otherwise when they
+     * are released.  If the settings with which connections are opened have changed, then all the
+     * connections are outdated, and are rolled over to connections that are opened with the new
+     * settings.  The number of opener and retirer threads, the number of stripes, thread affinity,
+     * demand forecasting and the connection budget cannot be changed on a live connection pool.
+     * @param rollover true if the connections must be rolled over, false otherwise
+     */
+    public void reconfigure(
+        final boolean rollover) {
+
+        String methodName = "reconfigure";
+        Connection connection;
+
+        if (dataSource.isAdaptiveLimit() == false) {
+
+            concurrencyLimiter = null;
+        }
+        else if (concurrencyLimiter == null) {
+
+            concurrencyLimiter = new ConcurrencyLimiter(dataSource.getMinimumConnections(),
+                dataSource.getMaximumConnections(), Math.max(dataSource.getMinimumConnections(), 10));
+        }
+        else {
+
+            concurrencyLimiter.setBounds(dataSource.getMinimumConnections(), dataSource.getMaximumConnections());
+        }
+
+        if (dataSource.isAdmissionControl() == false) {
+
+            admissionController = null;
+        }
+        else if (admissionController == null) {
+
+            admissionController = new AdmissionController();
+        }
+
+        leakDetector.setSampleInterval(dataSource.getLeakSampleInterval());
+
+        circuitBreaker.setBackoff(dataSource.getBackoffPeriod(), dataSource.getBackoffMultiplier(), dataSource.getBackoffLimit());
+
+        availableConnectionQueue.setReservedConnections(dataSource.getReservedConnections());
+
+        while (totalConnections.get() > getConnectionLimit()) {
+
+            connection = availableConnectionQueue.removeLast();
+
+            if (connection == null) {
+                break;
+            }
+
+            logger.debug(methodName, "Connection [", connection.getConnectionDescriptor(), "] exceeds the connection limit and is being retired.");
+
+            connectionsSupply.decrement();
+
+            totalConnections.decrement();
+
+            retireConnection(connection);
+        }
+
+        if (rollover == true) {
+
+            generation++;
+        }
+
+        logger.info(methodName, "Connection pool [", poolId, "] reconfigured: limit=", getConnectionLimit(), ", rollover=", rollover, ".");
+
+        synchronized (this) {
+
+            notifyAll();
+        }
+
+        resizePool();
+    }
+
     /**
      * Resize connection pool to fit dimensions.
      */
@@ -432,7 +1974,7 @@ public class ConnectionPool {
 
         try {
 
-            if (totalConnections.get() < dataSource.getMinimumConnections()) {
+            if (totalConnections.get() < getTargetConnections()) {
                 logger.debug(methodName, "Connection pool [", poolId, "] resized to fit dimensions.");
 
                 demandSemaphore.release();
@@ -445,6 +1987,23 @@ public class ConnectionPool {
 
     }
 
+    /**
+     * Create daemon thread for an executor of the connection pool.
+     * @param runnable The runnable that the thread must run
+     * @return The thread
+     */
+    private Thread createThread(
+        final Runnable runnable) {
+
+        Thread thread;
+
+        thread = new Thread(runnable, "pool-" + poolId);
+
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
     /**
      * Capture last exception.
      * @param exception The last exception
@@ -455,8 +2014,6 @@ public class ConnectionPool {
         lastException = (exception instanceof SQLException) ? (SQLException) exception : (exception instanceof IOException) ?
             new SQLException(exception.getMessage(), SQLState.CONNECTION_FAILURE.value(), exception) :
             new SQLException(exception.getMessage(), SQLState.DYNAMIC_SQL_ERROR.value(), exception);
-
-        lastExceptionTime = System.currentTimeMillis();
     }
 
 }
@@ -0,0 +1,789 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.melior.jdbc.core.Connection;
+
+/**
+ * Implements a lock-free queue of available {@code Connection} objects.
+ * <p>
+ * A borrower first attempts to reclaim the {@code Connection} that it last released,
+ * then attempts to take the most recently released {@code Connection} from the queue.
+ * If no {@code Connection} is available, then the borrower is parked until a
+ * {@code Connection} is handed to it directly by the thread that releases it.
+ * <p>
+ * Without thread affinity, the queue does not track the last {@code Connection}
+ * that each thread released, which avoids populating a thread-local map for each
+ * of many short-lived threads, such as virtual threads.  Waiting borrowers are
+ * parked with {@code LockSupport}, which does not pin the carrier of a virtual thread.
+ * <p>
+ * The queue may be divided into stripes to reduce contention between borrowers on
+ * hosts with many cores.  A borrower takes a {@code Connection} from the stripe that
+ * belongs to its thread first, and steals from the other stripes when its own stripe
+ * is empty.
+ * <p>
+ * A number of available {@code Connection} objects may be reserved for borrowers with
+ * a high priority.  Waiting borrowers are served in order of priority, and borrowers
+ * with a lower priority are only served while the reservation remains intact.
+ * @author Melior
+ * @since 2.3
+ */
+public class ConnectionQueue {
+
+    private static final ScheduledThreadPoolExecutor TIMEOUT_EXECUTOR = createTimeoutExecutor();
+
+    private ConcurrentLinkedDeque<Connection>[] availableConnections;
+
+    private LongAdder availableCount;
+
+    private ConcurrentLinkedQueue<Waiter>[] waiters;
+
+    private volatile int reservedConnections;
+
+    private ThreadLocal<Connection> lastConnection;
+
+    /**
+     * Constructor.
+     * @param threadAffinity true if the last connection released by each thread must be tracked, false otherwise
+     * @param stripes The number of stripes
+     */
+    @SuppressWarnings("unchecked")
+    public ConnectionQueue(
+        final boolean threadAffinity,
+        final int stripes) {
+
+        super();
+
+        availableConnections = new ConcurrentLinkedDeque[Math.max(stripes, 1)];
+
+        for (int i = 0; i < availableConnections.length; i++) {
+            availableConnections[i] = new ConcurrentLinkedDeque<Connection>();
+        }
+
+        availableCount = new LongAdder();
+
+        waiters = new ConcurrentLinkedQueue[Priority.values().length];
+
+        for (int i = 0; i < waiters.length; i++) {
+            waiters[i] = new ConcurrentLinkedQueue<Waiter>();
+        }
+
+        reservedConnections = 0;
+
+        lastConnection = (threadAffinity == true) ? new ThreadLocal<Connection>() : null;
+    }
+
+    /**
+     * Get number of available connections.
+     * @return The number of available connections
+     */
+    public int size() {
+        return availableCount.intValue();
+    }
+
+    /**
+     * Get number of borrowers waiting for a connection.
+     * @return The number of waiting borrowers
+     */
+    public int getWaiters() {
+
+        int count;
+
+        count = 0;
+
+        for (int i = 0; i < waiters.length; i++) {
+            count += waiters[i].size();
+        }
+
+        return count;
+    }
+
+    /**
+     * Set number of connections that are reserved for borrowers with a high priority.
+     * @param reservedConnections The number of reserved connections
+     */
+    public void setReservedConnections(
+        final int reservedConnections) {
+        this.reservedConnections = reservedConnections;
+    }
+
+    /**
+     * Add connection to queue.  The connection is handed directly to a waiting
+     * borrower if there is one, otherwise it is made available to future borrowers.
+     * @param connection The connection
+     */
+    public void add(
+        final Connection connection) {
+
+        if (handOff(connection) == true) {
+            return;
+        }
+
+        offer(connection);
+
+        serveWaiters();
+    }
+
+    /**
+     * Return connection to queue in the position of a least recently used connection, so that
+     * a connection that was only taken from the queue for maintenance does not appear to be in
+     * use.  The connection is returned to the stripe that it was taken from, rather than to the
+     * stripe of the maintenance thread.  The connection is handed directly to a waiting borrower
+     * if there is one.
+     * @param connection The connection
+     */
+    public void restore(
+        final Connection connection) {
+
+        if (handOff(connection) == true) {
+            return;
+        }
+
+        connection.markAvailable();
+
+        availableConnections[connection.getStripe() % availableConnections.length].offerLast(connection);
+
+        availableCount.increment();
+
+        serveWaiters();
+    }
+
+    /**
+     * Record connection as the last connection used by the current thread.
+     * @param connection The connection
+     */
+    public void setLastConnection(
+        final Connection connection) {
+
+        if (lastConnection != null) {
+
+            lastConnection.set(connection);
+        }
+
+    }
+
+    /**
+     * Remove connection from queue, without waiting.
+     * @param priority The priority of the borrower
+     * @return The connection, or null if no connection is available
+     */
+    public Connection remove(
+        final Priority priority) {
+
+        Connection connection;
+        int stripe;
+
+        if (isReserved(priority) == true) {
+            return null;
+        }
+
+        connection = (lastConnection == null) ? null : lastConnection.get();
+
+        if ((connection != null) && (connection.claim() == true)) {
+
+            stripe = getStripe();
+
+            for (int i = 0; i < availableConnections.length; i++) {
+
+                if (availableConnections[(stripe + i) % availableConnections.length].removeFirstOccurrence(connection) == true) {
+                    break;
+                }
+
+            }
+
+            availableCount.decrement();
+
+            return connection;
+        }
+
+        return take(priority);
+    }
+
+    /**
+     * Remove connection from queue, waiting up to the specified time for a connection to become available.
+     * @param priority The priority of the borrower
+     * @param timeout The amount of time to wait
+     * @param timeUnit The time unit
+     * @return The connection, or null if no connection became available in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Connection remove(
+        final Priority priority,
+        final long timeout,
+        final TimeUnit timeUnit) throws InterruptedException {
+
+        Connection connection;
+        Waiter waiter;
+        long deadline;
+        long remaining;
+
+        connection = remove(priority);
+
+        if (connection != null) {
+            return connection;
+        }
+
+        waiter = new Waiter();
+
+        waiters[priority.ordinal()].add(waiter);
+
+        deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+
+        while (true) {
+
+            connection = take(priority);
+
+            if (connection != null) {
+
+                if (waiter.cancel() == true) {
+
+                    waiters[priority.ordinal()].remove(waiter);
+
+                    return connection;
+                }
+
+                add(connection);
+
+                return waiter.getConnection();
+            }
+
+            if (waiter.getConnection() != null) {
+                return waiter.getConnection();
+            }
+
+            remaining = deadline - System.nanoTime();
+
+            if ((remaining <= 0) || (Thread.interrupted() == true)) {
+
+                if (waiter.cancel() == true) {
+
+                    waiters[priority.ordinal()].remove(waiter);
+
+                    if (remaining > 0) {
+                        throw new InterruptedException();
+                    }
+
+                    return null;
+                }
+
+                return waiter.getConnection();
+            }
+
+            LockSupport.parkNanos(this, remaining);
+        }
+
+    }
+
+    /**
+     * Remove connection from queue without blocking the calling thread.  The future is
+     * completed immediately if a connection is available, otherwise it is completed by
+     * the thread that adds the next connection that is handed to the borrower.  If the
+     * future times out or is cancelled first, then the borrower stops waiting, and the
+     * next connection is handed to another borrower instead.  The timeout is scheduled on
+     * an executor that is shared by all queues, and is cancelled when the future completes.
+     * @param priority The priority of the borrower
+     * @param timeout The amount of time to wait
+     * @param timeUnit The time unit
+     * @return The future connection
+     */
+    public CompletableFuture<Connection> removeAsync(
+        final Priority priority,
+        final long timeout,
+        final TimeUnit timeUnit) {
+
+        Connection connection;
+        CompletableFuture<Connection> future;
+        Waiter waiter;
+        ScheduledFuture<?> timeoutTask;
+
+        connection = take(priority);
+
+        if (connection != null) {
+            return CompletableFuture.completedFuture(connection);
+        }
+
+        future = new CompletableFuture<Connection>();
+
+        waiter = new Waiter(future);
+
+        waiters[priority.ordinal()].add(waiter);
+
+        future.whenComplete((available, exception) -> {
+
+            if ((exception != null) && (waiter.cancel() == true)) {
+
+                waiters[priority.ordinal()].remove(waiter);
+            }
+
+        });
+
+        connection = take(priority);
+
+        if (connection != null) {
+
+            if ((waiter.cancel() == true) && (future.complete(connection) == true)) {
+
+                waiters[priority.ordinal()].remove(waiter);
+            }
+            else {
+
+                add(connection);
+            }
+
+        }
+
+        if (future.isDone() == false) {
+
+            timeoutTask = TIMEOUT_EXECUTOR.schedule(() -> future.completeExceptionally(new TimeoutException()),
+                Math.max(timeout, 0), timeUnit);
+
+            future.whenComplete((available, exception) -> timeoutTask.cancel(false));
+        }
+
+        return future;
+    }
+
+    /**
+     * Remove specific connection from queue, without waiting.
+     * @param connection The connection
+     * @return true if the connection was removed, false if the connection is not available
+     */
+    public boolean remove(
+        final Connection connection) {
+
+        if (connection.claim() == false) {
+            return false;
+        }
+
+        for (int i = 0; i < availableConnections.length; i++) {
+
+            if (availableConnections[i].removeFirstOccurrence(connection) == true) {
+                break;
+            }
+
+        }
+
+        availableCount.decrement();
+
+        return true;
+    }
+
+    /**
+     * Remove least recently used connection from queue, without waiting.
+     * @return The connection, or null if no connection is available
+     */
+    public Connection removeLast() {
+
+        Connection connection;
+
+        for (int i = 0; i < availableConnections.length; i++) {
+
+            while ((connection = availableConnections[i].pollLast()) != null) {
+
+                if (connection.claim() == true) {
+
+                    availableCount.decrement();
+
+                    return connection;
+                }
+
+            }
+
+        }
+
+        return null;
+    }
+
+    /**
+     * Remove least recently used connection from queue, without waiting, if the
+     * connection has been idle since before the specified time.  A connection that
+     * cannot be claimed has already been taken by a borrower, so its node is stale
+     * and is discarded, which bounds the number of attempts by the size of the queue.
+     * @param idleSince The time before which the connection must have been returned
+     * @return The connection, or null if no connection has been idle for long enough
+     */
+    public Connection removeIdle(
+        final long idleSince) {
+
+        Connection connection;
+        int stripe;
+
+        while (true) {
+
+            stripe = getOldestStripe();
+
+            connection = (stripe < 0) ? null : availableConnections[stripe].peekLast();
+
+            if ((connection == null) || (connection.getLastReturnTime() >= idleSince)) {
+                return null;
+            }
+
+            if (connection.claim() == true) {
+
+                availableConnections[stripe].removeLastOccurrence(connection);
+
+                availableCount.decrement();
+
+                return connection;
+            }
+
+            availableConnections[stripe].removeLastOccurrence(connection);
+        }
+
+    }
+
+    /**
+     * Get time at which the least recently used connection in the queue was returned.
+     * @return The time at which the least recently used connection was returned, or 0 if no connection is available
+     */
+    public long getOldestReturnTime() {
+
+        Connection connection;
+        int stripe;
+
+        stripe = getOldestStripe();
+
+        connection = (stripe < 0) ? null : availableConnections[stripe].peekLast();
+
+        return (connection == null) ? 0 : connection.getLastReturnTime();
+    }
+
+    /**
+     * Get stripe whose least recently used connection was returned the longest time ago.
+     * @return The stripe, or -1 if no connection is available
+     */
+    private int getOldestStripe() {
+
+        Connection connection;
+        long oldestReturnTime;
+        int stripe;
+
+        oldestReturnTime = Long.MAX_VALUE;
+
+        stripe = -1;
+
+        for (int i = 0; i < availableConnections.length; i++) {
+
+            connection = availableConnections[i].peekLast();
+
+            if ((connection != null) && (connection.getLastReturnTime() < oldestReturnTime)) {
+
+                oldestReturnTime = connection.getLastReturnTime();
+
+                stripe = i;
+            }
+
+        }
+
+        return stripe;
+    }
+
+    /**
+     * Hand available connections to borrowers that started waiting while the
+     * connections were being made available.
+     */
+    private void serveWaiters() {
+
+        Connection available;
+
+        while (hasWaiters() == true) {
+
+            available = poll();
+
+            if (available == null) {
+                break;
+            }
+
+            if (handOff(available) == false) {
+
+                offer(available);
+
+                break;
+            }
+
+        }
+
+    }
+
+    /**
+     * Take most recently used connection from queue, unless the connections that
+     * remain available are reserved for borrowers with a higher priority.
+     * @param priority The priority of the borrower
+     * @return The connection, or null if no connection is available
+     */
+    private Connection take(
+        final Priority priority) {
+
+        Connection connection;
+
+        if (isReserved(priority) == true) {
+            return null;
+        }
+
+        connection = poll();
+
+        if ((connection != null) && (priority != Priority.HIGH) && (size() < reservedConnections)) {
+
+            offer(connection);
+
+            return null;
+        }
+
+        return connection;
+    }
+
+    /**
+     * Check whether the available connections are reserved for borrowers with a higher priority.
+     * @param priority The priority of the borrower
+     * @return true if the available connections are reserved, false otherwise
+     */
+    private boolean isReserved(
+        final Priority priority) {
+        return (priority != Priority.HIGH) && (size() <= reservedConnections);
+    }
+
+    /**
+     * Take most recently used connection from queue, from the stripe that belongs
+     * to the current thread first, and then from the other stripes.
+     * @return The connection, or null if no connection is available
+     */
+    private Connection poll() {
+
+        Connection connection;
+        int stripe;
+
+        stripe = getStripe();
+
+        for (int i = 0; i < availableConnections.length; i++) {
+
+            while ((connection = availableConnections[(stripe + i) % availableConnections.length].pollFirst()) != null) {
+
+                if (connection.claim() == true) {
+
+                    availableCount.decrement();
+
+                    return connection;
+                }
+
+            }
+
+        }
+
+        return null;
+    }
+
+    /**
+     * Make connection available in the stripe that belongs to the current thread.
+     * @param connection The connection
+     */
+    private void offer(
+        final Connection connection) {
+
+        int stripe;
+
+        stripe = getStripe();
+
+        connection.setStripe(stripe);
+
+        connection.markAvailable();
+
+        availableConnections[stripe].offerFirst(connection);
+
+        availableCount.increment();
+    }
+
+    /**
+     * Get stripe that belongs to the current thread.
+     * @return The stripe
+     */
+    private int getStripe() {
+        return (availableConnections.length == 1) ? 0 : (int) (Thread.currentThread().getId() % availableConnections.length);
+    }
+
+    /**
+     * Check whether there are borrowers waiting for a connection.
+     * @return true if there are waiting borrowers, false otherwise
+     */
+    private boolean hasWaiters() {
+
+        for (int i = 0; i < waiters.length; i++) {
+
+            if (waiters[i].isEmpty() == false) {
+                return true;
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Hand connection directly to the waiting borrower with the highest priority.  The
+     * connection is only handed to a borrower with a lower priority if the connections
+     * that remain available are sufficient to honour the reservation.
+     * @param connection The connection
+     * @return true if the connection was handed to a waiting borrower, false otherwise
+     */
+    private boolean handOff(
+        final Connection connection) {
+
+        Waiter waiter;
+
+        for (Priority priority : Priority.values()) {
+
+            if ((priority != Priority.HIGH) && (size() < reservedConnections)) {
+                return false;
+            }
+
+            while ((waiter = waiters[priority.ordinal()].poll()) != null) {
+
+                if (waiter.complete(connection) == true) {
+                    return true;
+                }
+
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Create executor that times out the borrowers that wait without blocking.  The executor
+     * is shared by all queues, and the timeouts of borrowers that are served in time are
+     * removed from it as soon as they are cancelled.
+     * @return The executor
+     */
+    private static ScheduledThreadPoolExecutor createTimeoutExecutor() {
+
+        ScheduledThreadPoolExecutor executor;
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+            Thread thread;
+
+            thread = new Thread(runnable, "connection-queue-timeout");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+
+    /**
+     * Borrower that is waiting for a connection to be handed to it.
+     */
+    private static class Waiter {
+
+        private static final int WAITING = 0;
+
+        private static final int COMPLETED = 1;
+
+        private static final int CANCELLED = 2;
+
+        private Thread thread;
+
+        private CompletableFuture<Connection> future;
+
+        private AtomicInteger state;
+
+        private volatile Connection connection;
+
+        /**
+         * Constructor.
+         */
+        Waiter() {
+
+            super();
+
+            thread = Thread.currentThread();
+
+            future = null;
+
+            state = new AtomicInteger(WAITING);
+
+            connection = null;
+        }
+
+        /**
+         * Constructor for a borrower that waits without blocking.
+         * @param future The future to complete with the connection
+         */
+        Waiter(
+            final CompletableFuture<Connection> future) {
+
+            super();
+
+            thread = null;
+
+            this.future = future;
+
+            state = new AtomicInteger(WAITING);
+
+            connection = null;
+        }
+
+        /**
+         * Get connection that was handed to the waiter.
+         * @return The connection, or null if no connection has been handed to the waiter
+         */
+        Connection getConnection() {
+            return (state.get() == COMPLETED) ? connection : null;
+        }
+
+        /**
+         * Complete wait with connection.
+         * @param connection The connection
+         * @return true if the waiter accepted the connection, false if the waiter is no longer waiting
+         */
+        boolean complete(
+            final Connection connection) {
+
+            this.connection = connection;
+
+            if (state.compareAndSet(WAITING, COMPLETED) == false) {
+
+                this.connection = null;
+
+                return false;
+            }
+
+            if (future != null) {
+                return future.complete(connection);
+            }
+
+            LockSupport.unpark(thread);
+
+            return true;
+        }
+
+        /**
+         * Cancel wait.
+         * @return true if the wait was cancelled, false if a connection was already handed to the waiter
+         */
+        boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+    }
+
+}
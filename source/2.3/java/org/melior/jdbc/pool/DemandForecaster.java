@@ -0,0 +1,154 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Forecasts the demand for connections from the history of demand.  The day is divided
+ * into intervals, and the peak number of active connections in each interval is folded
+ * into an exponentially weighted moving average for that time of day.  The forecast
+ * for a moment in time is the highest average over the intervals that start within the
+ * lead time from that moment, so that connections are opened ahead of a surge that
+ * recurs at the same time every day, and are retained until the surge has passed.
+ * @author Melior
+ * @since 2.3
+ */
+public class DemandForecaster {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    private int interval;
+
+    private int leadTime;
+
+    private double[] history;
+
+    private int currentSlot;
+
+    private AtomicLong currentPeak;
+
+    /**
+     * Constructor.
+     * @param interval The interval over which peak demand is measured, in milliseconds
+     * @param leadTime The amount of time to look ahead when forecasting demand, in milliseconds
+     */
+    public DemandForecaster(
+        final int interval,
+        final int leadTime) {
+
+        super();
+
+        this.interval = Math.max(interval / 1000, 1);
+
+        this.leadTime = Math.max(leadTime / 1000, 0);
+
+        history = new double[(SECONDS_PER_DAY + this.interval - 1) / this.interval];
+
+        for (int i = 0; i < history.length; i++) {
+            history[i] = -1;
+        }
+
+        currentSlot = getSlot(LocalTime.now().toSecondOfDay());
+
+        currentPeak = new AtomicLong(0);
+    }
+
+    /**
+     * Record number of active connections.
+     * @param activeConnections The number of active connections
+     */
+    public void record(
+        final long activeConnections) {
+
+        long peak;
+
+        peak = currentPeak.get();
+
+        while ((activeConnections > peak) && (currentPeak.compareAndSet(peak, activeConnections) == false)) {
+            peak = currentPeak.get();
+        }
+
+    }
+
+    /**
+     * Fold the peak demand into the history, if the current interval has ended.
+     * @return true if the history was updated, false otherwise
+     */
+    public synchronized boolean update() {
+
+        int slot;
+        long peak;
+
+        slot = getSlot(LocalTime.now().toSecondOfDay());
+
+        if (slot == currentSlot) {
+            return false;
+        }
+
+        peak = currentPeak.getAndSet(0);
+
+        history[currentSlot] = (history[currentSlot] < 0) ? peak
+            : (SMOOTHING_FACTOR * peak) + ((1 - SMOOTHING_FACTOR) * history[currentSlot]);
+
+        currentSlot = slot;
+
+        return true;
+    }
+
+    /**
+     * Get forecast of the number of connections that will be in demand.
+     * @return The number of connections that will be in demand
+     */
+    public synchronized long getForecast() {
+
+        int secondOfDay;
+        int slot;
+        int lastSlot;
+        double forecast;
+
+        secondOfDay = LocalTime.now().toSecondOfDay();
+
+        slot = getSlot(secondOfDay);
+
+        lastSlot = getSlot(secondOfDay + leadTime);
+
+        forecast = history[slot];
+
+        while (slot != lastSlot) {
+
+            slot = (slot + 1) % history.length;
+
+            forecast = Math.max(forecast, history[slot]);
+        }
+
+        return (long) Math.ceil(Math.max(forecast, 0));
+    }
+
+    /**
+     * Get amount of time until the current interval ends.
+     * @return The amount of time until the current interval ends, in milliseconds
+     */
+    public long getRemainingTime() {
+        return (interval - (LocalTime.now().toSecondOfDay() % interval)) * 1000L;
+    }
+
+    /**
+     * Get history slot for time of day.
+     * @param secondOfDay The time of day, in seconds
+     * @return The history slot
+     */
+    private int getSlot(
+        final int secondOfDay) {
+        return (secondOfDay % SECONDS_PER_DAY) / interval;
+    }
+
+}
@@ -0,0 +1,214 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples the stack traces of borrowers of {@code Connection} objects, so that a
+ * connection that is held for longer than the leak threshold can be traced back to
+ * the code that borrowed it, and so that the amount of time for which connections
+ * are held can be attributed to the code paths that borrow them.
+ * <p>
+ * Capturing a stack trace is expensive, so only one in every number of borrows is
+ * sampled.  The statistics for each call site are therefore estimates.
+ * @author Melior
+ * @since 2.3
+ */
+public class LeakDetector {
+
+    private volatile int sampleInterval;
+
+    private AtomicLong borrows;
+
+    private ConcurrentHashMap<String, CallSite> callSites;
+
+    /**
+     * Constructor.
+     * @param sampleInterval The number of borrows per sampled borrow
+     */
+    public LeakDetector(
+        final int sampleInterval) {
+
+        super();
+
+        this.sampleInterval = Math.max(sampleInterval, 1);
+
+        borrows = new AtomicLong(0);
+
+        callSites = new ConcurrentHashMap<String, CallSite>();
+    }
+
+    /**
+     * Set number of borrows per sampled borrow.
+     * @param sampleInterval The number of borrows per sampled borrow
+     */
+    public void setSampleInterval(
+        final int sampleInterval) {
+        this.sampleInterval = Math.max(sampleInterval, 1);
+    }
+
+    /**
+     * Sample stack trace of borrower, if the borrow is due to be sampled.
+     * @return The stack trace of the borrower, or null if the borrow is not sampled
+     */
+    public Throwable sample() {
+        return ((borrows.getAndIncrement() % sampleInterval) == 0) ? new Throwable("Connection borrowed here") : null;
+    }
+
+    /**
+     * Record amount of time for which a sampled borrower held a connection.
+     * @param stack The stack trace of the borrower
+     * @param holdTime The amount of time for which the connection was held, in milliseconds
+     */
+    public void record(
+        final Throwable stack,
+        final long holdTime) {
+        callSites.computeIfAbsent(getCallSite(stack), key -> new CallSite(key)).record(holdTime);
+    }
+
+    /**
+     * Get statistics of the call sites that borrow connections, ordered by the total
+     * amount of time for which the call sites held connections.
+     * @return The statistics of the call sites
+     */
+    public List<CallSite> getCallSites() {
+
+        List<CallSite> list;
+
+        list = new ArrayList<CallSite>(callSites.values());
+
+        list.sort(Comparator.comparingLong(CallSite::getTotalHoldTime).reversed());
+
+        return list;
+    }
+
+    /**
+     * Get call site from stack trace of borrower, which is the first frame that does
+     * not belong to this library, to the JDK or to a generated proxy.
+     * @param stack The stack trace of the borrower
+     * @return The call site
+     */
+    public static String getCallSite(
+        final Throwable stack) {
+
+        String className;
+
+        for (StackTraceElement element : stack.getStackTrace()) {
+
+            className = element.getClassName();
+
+            if ((className.startsWith("org.melior.jdbc.") == false) && (className.startsWith("java.") == false)
+                && (className.startsWith("jdk.") == false) && (className.startsWith("com.sun.proxy.") == false)
+                && (className.contains("$Proxy") == false)) {
+                return element.toString();
+            }
+
+        }
+
+        return "unknown";
+    }
+
+    /**
+     * Statistics of a call site that borrows connections.
+     */
+    public static class CallSite {
+
+        private String callSite;
+
+        private LongAdder borrows;
+
+        private LongAdder totalHoldTime;
+
+        private AtomicLong maximumHoldTime;
+
+        /**
+         * Constructor.
+         * @param callSite The call site
+         */
+        CallSite(
+            final String callSite) {
+
+            super();
+
+            this.callSite = callSite;
+
+            borrows = new LongAdder();
+
+            totalHoldTime = new LongAdder();
+
+            maximumHoldTime = new AtomicLong(0);
+        }
+
+        /**
+         * Get call site.
+         * @return The call site
+         */
+        public String getCallSite() {
+            return callSite;
+        }
+
+        /**
+         * Get number of sampled borrows.
+         * @return The number of sampled borrows
+         */
+        public long getBorrows() {
+            return borrows.sum();
+        }
+
+        /**
+         * Get total amount of time for which the sampled borrows held connections.
+         * @return The total amount of time, in milliseconds
+         */
+        public long getTotalHoldTime() {
+            return totalHoldTime.sum();
+        }
+
+        /**
+         * Get average amount of time for which the sampled borrows held connections.
+         * @return The average amount of time, in milliseconds
+         */
+        public long getAverageHoldTime() {
+
+            long count;
+
+            count = borrows.sum();
+
+            return (count == 0) ? 0 : totalHoldTime.sum() / count;
+        }
+
+        /**
+         * Get maximum amount of time for which a sampled borrow held a connection.
+         * @return The maximum amount of time, in milliseconds
+         */
+        public long getMaximumHoldTime() {
+            return maximumHoldTime.get();
+        }
+
+        /**
+         * Record amount of time for which a connection was held.
+         * @param holdTime The amount of time, in milliseconds
+         */
+        void record(
+            final long holdTime) {
+
+            borrows.increment();
+
+            totalHoldTime.add(holdTime);
+
+            maximumHoldTime.accumulateAndGet(holdTime, Math::max);
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.pool;
+
+/**
+ * List of priorities with which a {@code Connection} may be borrowed from the
+ * connection pool, in order from highest to lowest.
+ * @author Melior
+ * @since 2.3
+ */
+public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW;
+}
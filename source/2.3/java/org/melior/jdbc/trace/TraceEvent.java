@@ -0,0 +1,89 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.trace;
+
+/**
+ * Enumerates the events that are recorded by the {@code Tracer}.  Each event has a
+ * template from which the log line is formatted when the event is consumed.  In the
+ * template, {s} is replaced by the subject of the event, {d} by the detail of the
+ * event, and {0} to {9} by the values of the event.
+ * @author Melior
+ * @since 2.3
+ */
+public enum TraceEvent {
+
+    POOL_STATISTICS("Connection pool [{s}]: total={0}, active={1}, deficit={2}, pending={3}, limit={4}, churn={5}, rejected={6}, circuit={d}, retiring={7}, leaked={8}"),
+
+    CONNECTION_ALLOCATED("Connection [{s}, reuse={d}] allocated."),
+
+    CONNECTION_RELEASED("Connection [{s}] released."),
+
+    STATEMENT_CACHED("Connection [{s}] using cached statement."),
+
+    METADATA_CACHED("Connection [{s}] using cached metadata."),
+
+    INVOCATION_SUCCEEDED("Connection [{s}] {d}.  Duration = {0} ms."),
+
+    STATEMENT_EXECUTED("Statement executed successfully.  Duration = {0} ms."),
+
+    RESULT_SET_PROCESSED("Result set processed successfully.  Duration = {0} ms.");
+
+    private String template;
+
+    /**
+     * Constructor.
+     * @param template The template
+     */
+    TraceEvent(
+        final String template) {
+        this.template = template;
+    }
+
+    /**
+     * Format event.
+     * @param builder The builder to append the formatted event to
+     * @param subject The subject of the event
+     * @param detail The detail of the event
+     * @param values The values of the event
+     */
+    void format(
+        final StringBuilder builder,
+        final Object subject,
+        final Object detail,
+        final long[] values) {
+
+        char placeholder;
+
+        for (int i = 0; i < template.length(); i++) {
+
+            placeholder = ((template.charAt(i) == '{') && (i + 2 < template.length()) && (template.charAt(i + 2) == '}'))
+                ? template.charAt(i + 1) : 0;
+
+            if (placeholder == 's') {
+                builder.append(subject);
+            }
+            else if (placeholder == 'd') {
+                builder.append(detail);
+            }
+            else if ((placeholder >= '0') && (placeholder <= '9')) {
+                builder.append(values[placeholder - '0']);
+            }
+            else {
+
+                builder.append(template.charAt(i));
+
+                continue;
+            }
+
+            i = i + 2;
+        }
+
+    }
+
+}
@@ -0,0 +1,385 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.trace;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.melior.logging.core.Logger;
+import org.melior.logging.core.LoggerFactory;
+import org.melior.service.core.ServiceState;
+import org.melior.util.thread.DaemonThread;
+import org.melior.util.thread.ThreadControl;
+
+/**
+ * Records trace events on the borrow and execution paths without formatting them on the
+ * calling thread.  Whether tracing is enabled is decided once, when the tracer is created.
+ * When tracing is disabled, recording an event returns immediately.  When tracing is
+ * enabled, the event is written into a slot of a preallocated ring buffer as a template,
+ * a subject, a detail and a few primitive values, and a background thread formats the
+ * event and writes it to the log of the component that recorded it.  The name of the
+ * thread that recorded the event is written with it, so that the event can still be
+ * correlated with the work that caused it.  If the background
+ * thread falls behind and the ring buffer is full, then events are dropped and counted,
+ * rather than blocking the calling thread.
+ * @author Melior
+ * @since 2.3
+ */
+public class Tracer {
+
+    private static final int VALUES = 10;
+
+    private static final long IDLE_WAIT = 10;
+
+    protected Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private boolean enabled;
+
+    private Slot[] slots;
+
+    private int mask;
+
+    private AtomicLong claimed;
+
+    private volatile long consumed;
+
+    private AtomicLong droppedEvents;
+
+    /**
+     * Constructor.  If tracing is enabled, then the thread that consumes the events is started.
+     * @param enabled true if tracing is enabled, false otherwise
+     * @param capacity The capacity of the ring buffer, which is rounded up to a power of two
+     */
+    public Tracer(
+        final boolean enabled,
+        final int capacity) {
+
+        super();
+
+        this.enabled = enabled;
+
+        slots = new Slot[(enabled == true) ? Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) : 0];
+
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot();
+        }
+
+        mask = slots.length - 1;
+
+        claimed = new AtomicLong(0);
+
+        consumed = 0;
+
+        droppedEvents = new AtomicLong(0);
+
+        if (enabled == true) {
+
+            DaemonThread.create(() -> consumeEvents());
+        }
+
+    }
+
+    /**
+     * Indicate whether tracing is enabled.  Check this before gathering the values of an
+     * event that are costly to gather.
+     * @return true if tracing is enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get number of events that were dropped because the ring buffer was full.
+     * @return The number of events that were dropped
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Record event.
+     * @param logger The logger to write the event to
+     * @param methodName The method name
+     * @param event The event
+     * @param subject The subject of the event
+     */
+    public void trace(
+        final Logger logger,
+        final String methodName,
+        final TraceEvent event,
+        final Object subject) {
+
+        long sequence;
+
+        sequence = claim(logger, methodName, event, subject);
+
+        if (sequence >= 0) {
+
+            publish(sequence);
+        }
+
+    }
+
+    /**
+     * Record event.
+     * @param logger The logger to write the event to
+     * @param methodName The method name
+     * @param event The event
+     * @param subject The subject of the event
+     * @param detail The detail of the event
+     */
+    public void trace(
+        final Logger logger,
+        final String methodName,
+        final TraceEvent event,
+        final Object subject,
+        final Object detail) {
+
+        long sequence;
+
+        sequence = claim(logger, methodName, event, subject);
+
+        if (sequence >= 0) {
+
+            setDetail(sequence, detail);
+
+            publish(sequence);
+        }
+
+    }
+
+    /**
+     * Record event.
+     * @param logger The logger to write the event to
+     * @param methodName The method name
+     * @param event The event
+     * @param subject The subject of the event
+     * @param value The value of the event
+     */
+    public void trace(
+        final Logger logger,
+        final String methodName,
+        final TraceEvent event,
+        final Object subject,
+        final long value) {
+
+        long sequence;
+
+        sequence = claim(logger, methodName, event, subject);
+
+        if (sequence >= 0) {
+
+            setValue(sequence, 0, value);
+
+            publish(sequence);
+        }
+
+    }
+
+    /**
+     * Record event.
+     * @param logger The logger to write the event to
+     * @param methodName The method name
+     * @param event The event
+     * @param subject The subject of the event
+     * @param detail The detail of the event
+     * @param value The value of the event
+     */
+    public void trace(
+        final Logger logger,
+        final String methodName,
+        final TraceEvent event,
+        final Object subject,
+        final Object detail,
+        final long value) {
+
+        long sequence;
+
+        sequence = claim(logger, methodName, event, subject);
+
+        if (sequence >= 0) {
+
+            setDetail(sequence, detail);
+
+            setValue(sequence, 0, value);
+
+            publish(sequence);
+        }
+
+    }
+
+    /**
+     * Claim slot in the ring buffer for an event.  The detail and values of the event may
+     * be set on the claimed slot, after which the slot must be published.
+     * @param logger The logger to write the event to
+     * @param methodName The method name
+     * @param event The event
+     * @param subject The subject of the event
+     * @return The sequence of the claimed slot, or -1 if tracing is disabled or the ring buffer is full
+     */
+    public long claim(
+        final Logger logger,
+        final String methodName,
+        final TraceEvent event,
+        final Object subject) {
+
+        long sequence;
+        Slot slot;
+
+        if (enabled == false) {
+            return -1;
+        }
+
+        do {
+            sequence = claimed.get();
+
+            if (sequence - consumed >= slots.length) {
+
+                droppedEvents.incrementAndGet();
+
+                return -1;
+            }
+
+        }
+        while (claimed.compareAndSet(sequence, sequence + 1) == false);
+
+        slot = slots[(int) sequence & mask];
+
+        slot.logger = logger;
+
+        slot.methodName = methodName;
+
+        slot.event = event;
+
+        slot.subject = subject;
+
+        slot.detail = null;
+
+        slot.threadName = Thread.currentThread().getName();
+
+        return sequence;
+    }
+
+    /**
+     * Set detail of claimed event.
+     * @param sequence The sequence of the claimed slot
+     * @param detail The detail of the event
+     */
+    public void setDetail(
+        final long sequence,
+        final Object detail) {
+        slots[(int) sequence & mask].detail = detail;
+    }
+
+    /**
+     * Set value of claimed event.
+     * @param sequence The sequence of the claimed slot
+     * @param index The index of the value, from 0 to 9
+     * @param value The value of the event
+     */
+    public void setValue(
+        final long sequence,
+        final int index,
+        final long value) {
+        slots[(int) sequence & mask].values[index] = value;
+    }
+
+    /**
+     * Publish claimed event to the thread that consumes the events.
+     * @param sequence The sequence of the claimed slot
+     */
+    public void publish(
+        final long sequence) {
+        slots[(int) sequence & mask].published = sequence;
+    }
+
+    /**
+     * Consume events in the order in which the slots were claimed.  Each event is formatted
+     * and written to the log of the component that recorded it, and the slot is then released
+     * for reuse.  The thread waits briefly whenever the next event has not been published yet,
+     * so that the threads that record events never have to signal it.
+     */
+    private void consumeEvents() {
+
+        String methodName = "consumeEvents";
+        StringBuilder builder;
+        long reportedDrops;
+        long drops;
+        Slot slot;
+
+        builder = new StringBuilder();
+
+        reportedDrops = 0;
+
+        while (ServiceState.isActive() == true) {
+
+            slot = slots[(int) consumed & mask];
+
+            if (slot.published != consumed) {
+
+                drops = droppedEvents.get();
+
+                if (drops != reportedDrops) {
+                    logger.warn(methodName, "Trace buffer full.  ", (drops - reportedDrops), " events dropped.");
+
+                    reportedDrops = drops;
+                }
+
+                ThreadControl.sleep(IDLE_WAIT, TimeUnit.MILLISECONDS);
+
+                continue;
+            }
+
+            try {
+
+                builder.setLength(0);
+
+                builder.append('[').append(slot.threadName).append("] ");
+
+                slot.event.format(builder, slot.subject, slot.detail, slot.values);
+
+                slot.logger.debug(slot.methodName, builder.toString());
+            }
+            catch (Exception exception) {
+                logger.error(methodName, "Failed to write trace event: ", exception.getMessage(), exception);
+            }
+
+            slot.subject = null;
+
+            slot.detail = null;
+
+            slot.threadName = null;
+
+            consumed++;
+
+        }
+
+    }
+
+    /**
+     * Slot in the ring buffer.
+     */
+    private static class Slot {
+
+        private volatile long published = -1;
+
+        private Logger logger;
+
+        private String methodName;
+
+        private TraceEvent event;
+
+        private Object subject;
+
+        private Object detail;
+
+        private String threadName;
+
+        private long[] values = new long[VALUES];
+    }
+
+}
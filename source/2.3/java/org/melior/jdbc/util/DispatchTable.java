@@ -0,0 +1,169 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.jdbc.util;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Dispatch table for the invocation handler of a dynamic proxy.  The table is built once
+ * per proxy interface, and maps each method to the kind of handling that the method needs
+ * and to a method handle that invokes the method on the delegate.  The invocation handler
+ * therefore neither classifies methods by name nor uses reflection on every invocation.
+ * @author Melior
+ * @since 2.3
+ */
+public class DispatchTable<T extends Enum<T>> {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private Function<Method, T> classifier;
+
+    private Map<Method, Entry<T>> entries;
+
+    /**
+     * Constructor.
+     * @param proxyInterface The proxy interface
+     * @param classifier The classifier that determines the kind of handling that a method needs
+     */
+    public DispatchTable(
+        final Class<?> proxyInterface,
+        final Function<Method, T> classifier) {
+
+        super();
+
+        this.classifier = classifier;
+
+        entries = new ConcurrentHashMap<Method, Entry<T>>();
+
+        for (Method method : proxyInterface.getMethods()) {
+
+            if (Modifier.isStatic(method.getModifiers()) == false) {
+
+                entries.put(method, createEntry(method));
+            }
+
+        }
+
+    }
+
+    /**
+     * Get dispatch table entry for method.  Methods that the proxy interface does not declare,
+     * such as the methods of {@code Object}, are added to the table when they are first invoked.
+     * @param method The method
+     * @return The dispatch table entry
+     */
+    public Entry<T> get(
+        final Method method) {
+
+        Entry<T> entry;
+
+        entry = entries.get(method);
+
+        if (entry == null) {
+
+            entry = createEntry(method);
+
+            entries.put(method, entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Create dispatch table entry for method.
+     * @param method The method
+     * @return The dispatch table entry
+     */
+    private Entry<T> createEntry(
+        final Method method) {
+
+        MethodHandle handle;
+
+        try {
+
+            handle = MethodHandles.publicLookup().unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        }
+        catch (Exception exception) {
+            throw new RuntimeException("Failed to resolve method handle for " + method.getName() + ": " + exception.getMessage(), exception);
+        }
+
+        return new Entry<T>(classifier.apply(method), method.getName(), handle);
+    }
+
+    /**
+     * Entry in the dispatch table.
+     */
+    public static class Entry<T> {
+
+        private T kind;
+
+        private String name;
+
+        private MethodHandle handle;
+
+        /**
+         * Constructor.
+         * @param kind The kind of handling that the method needs
+         * @param name The method name
+         * @param handle The method handle that invokes the method on the delegate
+         */
+        Entry(
+            final T kind,
+            final String name,
+            final MethodHandle handle) {
+
+            super();
+
+            this.kind = kind;
+
+            this.name = name;
+
+            this.handle = handle;
+        }
+
+        /**
+         * Get kind of handling that the method needs.
+         * @return The kind of handling
+         */
+        public T getKind() {
+            return kind;
+        }
+
+        /**
+         * Get method name.
+         * @return The method name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Invoke method on delegate.  Exceptions that the method throws are not wrapped.
+         * @param delegate The delegate
+         * @param args The arguments to invoke with
+         * @return The result of the invocation
+         * @throws Throwable if the invocation fails
+         */
+        public Object invoke(
+            final Object delegate,
+            final Object[] args) throws Throwable {
+            return (Object) handle.invokeExact(delegate, (args == null) ? NO_ARGUMENTS : args);
+        }
+
+    }
+
+}